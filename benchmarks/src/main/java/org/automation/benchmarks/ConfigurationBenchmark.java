@@ -0,0 +1,48 @@
+package org.automation.benchmarks;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of reading configuration, which the framework does on every wait, lease and navigation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=warn")
+public class ConfigurationBenchmark {
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigurationManager.getProperty("browser");
+    }
+
+    @Benchmark
+    public String getPropertyWithDefault() {
+        return ConfigurationManager.getProperty("benchmark.missing", "fallback");
+    }
+
+    @Benchmark
+    public int getIntProperty() {
+        return ConfigurationManager.getIntProperty("wait.timeoutSeconds", 10);
+    }
+
+    @Benchmark
+    public Duration getTypedKey() {
+        return ConfigurationManager.get(ConfigKeys.WAIT_TIMEOUT);
+    }
+}
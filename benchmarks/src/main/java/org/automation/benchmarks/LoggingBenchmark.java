@@ -0,0 +1,46 @@
+package org.automation.benchmarks;
+
+import org.automation.utils.LoggerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building {@link LoggerUtil} messages that are filtered out, as every action log line pays
+ * it when the log level is raised (the forks run with {@code -Dlog.level=warn}): eager concatenation
+ * against the parameterized and supplier forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=warn")
+public class LoggingBenchmark {
+    private final Object element = new StubWebElement(new StubWebDriver(0, 1, 1), By.id("fromCity"));
+    private final String text = "Delhi";
+
+    @Benchmark
+    public void concatenated() {
+        LoggerUtil.info("Sent text '" + text + "' to element: " + element);
+    }
+
+    @Benchmark
+    public void parameterized() {
+        LoggerUtil.info("Sent text '{}' to element: {}", text, element);
+    }
+
+    @Benchmark
+    public void supplier() {
+        LoggerUtil.info(() -> "Sent text '" + text + "' to element: " + element);
+    }
+}
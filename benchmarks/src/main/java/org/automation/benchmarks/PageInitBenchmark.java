@@ -0,0 +1,47 @@
+package org.automation.benchmarks;
+
+import org.automation.pages.FlightSearchPage;
+import org.automation.pages.HomePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating page objects, which binds their {@code @FindBy} fields, and of the first action
+ * on a fresh page, which resolves and caches an element. Performance capture is off, so only page
+ * initialization is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=warn", "-Dperf.capture=false"})
+public class PageInitBenchmark {
+    private final StubWebDriver driver = new StubWebDriver(0, 1, 20);
+
+    @Benchmark
+    public HomePage initHomePage() {
+        return new HomePage(driver);
+    }
+
+    @Benchmark
+    public FlightSearchPage initFlightSearchPage() {
+        return new FlightSearchPage(driver);
+    }
+
+    @Benchmark
+    public HomePage initHomePageAndAct() {
+        HomePage page = new HomePage(driver);
+        page.enterFromCity("Delhi");
+        return page;
+    }
+}
@@ -0,0 +1,126 @@
+package org.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory WebDriver with a scripted round-trip latency, so benchmarks measure the framework and
+ * not a browser. Every lookup returns a {@link StubWebElement} sharing the driver's script.
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    private final long latencyNanos;
+    private final int pollsUntilReady;
+    private final int listSize;
+
+    /**
+     * Create a stub driver.
+     *
+     * @param latencyMicros   The simulated latency of each command.
+     * @param pollsUntilReady How many {@code isDisplayed} calls an element answers false before true.
+     * @param listSize        How many elements {@link #findElements(By)} returns.
+     */
+    public StubWebDriver(long latencyMicros, int pollsUntilReady, int listSize) {
+        this.latencyNanos = latencyMicros * 1_000;
+        this.pollsUntilReady = pollsUntilReady;
+        this.listSize = listSize;
+    }
+
+    void roundTrip() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+    }
+
+    int pollsUntilReady() {
+        return pollsUntilReady;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        roundTrip();
+        return new StubWebElement(this, by);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        roundTrip();
+        List<WebElement> elements = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            elements.add(new StubWebElement(this, by));
+        }
+        return elements;
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        roundTrip();
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        roundTrip();
+        return null;
+    }
+
+    @Override
+    public void get(String url) {
+        roundTrip();
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not stubbed");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not stubbed");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not stubbed");
+    }
+}
@@ -0,0 +1,129 @@
+package org.automation.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+/**
+ * Element of a {@link StubWebDriver}: each command costs the driver's latency, and
+ * {@link #isDisplayed()} turns true after the driver's scripted number of polls.
+ */
+public class StubWebElement implements WebElement {
+    private final StubWebDriver driver;
+    private final By by;
+    private int polls;
+
+    StubWebElement(StubWebDriver driver, By by) {
+        this.driver = driver;
+        this.by = by;
+    }
+
+    /**
+     * Make the element hidden again, so the next wait polls the scripted number of times.
+     */
+    public void hide() {
+        polls = 0;
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        driver.roundTrip();
+        return ++polls >= driver.pollsUntilReady();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        driver.roundTrip();
+        return true;
+    }
+
+    @Override
+    public void click() {
+        driver.roundTrip();
+    }
+
+    @Override
+    public void submit() {
+        driver.roundTrip();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        driver.roundTrip();
+    }
+
+    @Override
+    public void clear() {
+        driver.roundTrip();
+    }
+
+    @Override
+    public String getTagName() {
+        driver.roundTrip();
+        return "div";
+    }
+
+    @Deprecated
+    @Override
+    public String getAttribute(String name) {
+        driver.roundTrip();
+        return null;
+    }
+
+    @Override
+    public boolean isSelected() {
+        driver.roundTrip();
+        return false;
+    }
+
+    @Override
+    public String getText() {
+        driver.roundTrip();
+        return "stub";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return driver.findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return driver.findElement(by);
+    }
+
+    @Override
+    public Point getLocation() {
+        return new Point(0, 0);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return new Dimension(100, 20);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return new Rectangle(getLocation(), getSize());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return "";
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw new UnsupportedOperationException("Screenshots are not stubbed");
+    }
+
+    @Override
+    public String toString() {
+        return "[[StubWebDriver] -> " + by + "]";
+    }
+}
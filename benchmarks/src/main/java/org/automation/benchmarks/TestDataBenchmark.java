@@ -0,0 +1,79 @@
+package org.automation.benchmarks;
+
+import org.automation.data.FlightBookingData;
+import org.automation.utils.TestDataReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link TestDataReader} lookups: the cached {@code getTestData} path the tests use, and a
+ * full streaming scan for an entry in the middle of a generated file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=warn")
+public class TestDataBenchmark {
+    @Param({"10", "1000"})
+    public int entries;
+
+    private Path file;
+    private String location;
+    private String middleId;
+
+    @Setup(Level.Trial)
+    public void writeDataFile() throws IOException {
+        file = Files.createTempFile("testdata-", ".json");
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\n");
+            for (int i = 0; i < entries; i++) {
+                out.write("  \"case" + i + "\": {\"fromCity\": \"Delhi\", \"toCity\": \"Mumbai\", "
+                        + "\"departureDate\": \"15 Jun 2025\"}" + (i < entries - 1 ? "," : "") + "\n");
+            }
+            out.write("}\n");
+        }
+        location = file.toString();
+        middleId = "case" + entries / 2;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDataFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Map<String, Object> getTestDataCached() {
+        return TestDataReader.getTestData(location, middleId);
+    }
+
+    @Benchmark
+    public FlightBookingData getTypedTestDataCached() {
+        return TestDataReader.getTestData(location, middleId, FlightBookingData.class);
+    }
+
+    @Benchmark
+    public FlightBookingData findTestDataStreaming() {
+        return TestDataReader.findTestData(location, middleId, FlightBookingData.class);
+    }
+}
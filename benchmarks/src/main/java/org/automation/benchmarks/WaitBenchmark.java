@@ -0,0 +1,61 @@
+package org.automation.benchmarks;
+
+import org.automation.utils.Utils;
+import org.automation.utils.WaitEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the wait loop against a stub driver with scripted round-trip latency: how long a
+ * wait takes beyond the polls the element needs, including the adaptive backoff sleeps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog.level=warn")
+public class WaitBenchmark {
+    @Param({"0", "200"})
+    public long latencyMicros;
+
+    @Param({"1", "3"})
+    public int pollsUntilReady;
+
+    private StubWebDriver driver;
+    private StubWebElement element;
+
+    @Setup(Level.Trial)
+    public void createDriver() {
+        driver = new StubWebDriver(latencyMicros, pollsUntilReady, 1);
+        element = (StubWebElement) driver.findElement(By.id("fromCity"));
+    }
+
+    @Setup(Level.Invocation)
+    public void hideElement() {
+        element.hide();
+    }
+
+    @Benchmark
+    public Object waitEngineVisible() {
+        return WaitEngine.of(driver).visible(element);
+    }
+
+    @Benchmark
+    public void utilsWaitForElementVisible() {
+        Utils.waitForElementVisible(driver, element);
+    }
+}
@@ -1,22 +1,50 @@
 package org.automation.base;
 
+import org.automation.utils.ActionBatch;
+import org.automation.utils.InteractionTimer;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 
 /**
- * Base class for all page objects, responsible for initializing PageFactory.
+ * Base class for all page objects, responsible for initializing the {@code @FindBy} fields.
+ * <p>
+ * Fields are populated by {@link PageElements}, which works like {@code PageFactory} but caches each
+ * resolved element per page instance and re-resolves it only when it goes stale. Creating a page
+ * makes it the current page for {@link InteractionTimer}, so the following commands count towards it.
+ * Its load performance is measured against its budget by {@link #measure()} once it is ready.
+ * <p>
  * Demonstrates OOP principles: Abstraction (abstract class), Encapsulation (protected fields).
  */
 public abstract class BasePage {
     protected WebDriver driver;
 
     /**
-     * Constructor to initialize PageFactory.
+     * Constructor to initialize the page elements.
      *
      * @param driver The WebDriver instance.
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this);
+        PageElements.init(driver, this);
+        InteractionTimer.enterPage(getClass().getSimpleName());
+    }
+
+    /**
+     * Measure the page's load performance against its budget with {@link PagePerformance}. Call it
+     * once the page is showing, e.g. after a navigation or the page's own readiness wait, so the
+     * metrics belong to this page's document and not to the one before it.
+     *
+     * @throws AssertionError If the page is over budget and {@code perf.budgetMode=fail}.
+     */
+    public void measure() {
+        PagePerformance.capture(driver, this);
+    }
+
+    /**
+     * Start a batch of element actions that run in as few WebDriver round trips as possible.
+     *
+     * @return An empty action batch on this page's driver.
+     */
+    protected ActionBatch batch() {
+        return ActionBatch.on(driver);
     }
 }
@@ -1,58 +1,161 @@
 package org.automation.base;
 
-import com.aventstack.extentreports.ExtentTest;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.listeners.RetryPolicy;
+import org.automation.utils.BrowserCheckpoint;
+import org.automation.utils.CommandCounter;
 import org.automation.utils.DriverFactory;
+import org.automation.utils.FailureKind;
+import org.automation.utils.InteractionTimer;
 import org.automation.utils.LoggerUtil;
+import org.automation.utils.ReportTest;
 import org.automation.utils.ReportUtils;
+import org.automation.utils.ScreenshotPipeline;
+import org.automation.utils.SiteStandIn;
 import org.automation.utils.Utils;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+
+import java.lang.reflect.Method;
 
 /**
  * Base class for all test classes, handling setup/teardown and Extent Reports.
  * <p>
- * Demonstrates OOP principles: Inheritance (extends Object implicitly), Encapsulation (protected fields).
+ * The driver and report node are held per thread, so test methods of the same class instance can
+ * safely run in parallel ({@code parallel="methods"}).
+ * <p>
+ * Demonstrates OOP principles: Inheritance (extends Object implicitly), Encapsulation (private ThreadLocal fields).
  */
 public class BaseTest {
-    protected WebDriver driver;
-    protected ExtentTest test;
+    private static final ThreadLocal<ReportTest> test = new ThreadLocal<>();
+
+    /**
+     * Start booting browsers in the background before the first test needs one.
+     */
+    @BeforeSuite
+    public void prewarmDrivers() {
+        DriverFactory.prewarm();
+    }
 
     /**
-     * Initialize Extent Reports before the test suite.
+     * Lease a WebDriver and create the report node before each test method.
+     *
+     * @param method The test method about to run.
      */
     @BeforeMethod
-    public void setup() {
-        driver = DriverFactory.getDriver();
-        test = ReportUtils.createTest(getClass().getSimpleName());
-        LoggerUtil.info("Test setup completed for: " + getClass().getSimpleName());
+    public void setup(Method method) {
+        DriverFactory.getDriver();
+        String testName = getClass().getSimpleName() + "." + method.getName();
+        LoggerUtil.setTestContext(testName, DriverFactory.getSessionId());
+        test.set(ReportUtils.createTest(testName));
+        getTest().info("Waited " + DriverFactory.getLeaseWaitMillis() + " ms for WebDriver");
+        CommandCounter.reset();
+        LoggerUtil.info("Test setup completed for: " + testName);
     }
 
     /**
-     * Teardown WebDriver and capture screenshot on failure after each test method.
+     * Capture screenshot on failure, attach page performance measurements and release the WebDriver back
+     * to the pool after each test method.
+     * After an infrastructure failure the session is evicted instead, so a retry leases a healthy one.
      *
      * @param result The TestNG test result.
      */
     @AfterMethod
     public void tearDown(ITestResult result) {
-        if (result.getStatus() == ITestResult.FAILURE) {
-            String screenshotPath = Utils.captureScreenshot(driver, result.getName());
-            test.addScreenCaptureFromPath(screenshotPath);
-            LoggerUtil.error("Test failed: " + result.getName(), result.getThrowable());
+        FailureKind kind = FailureKind.classify(result.getThrowable());
+        boolean failed = result.getStatus() == ITestResult.FAILURE || result.wasRetried();
+        if (failed && kind != FailureKind.INFRA) {
+            getTest().addScreenCapture(Utils.captureScreenshotAsync(getDriver(), result.getName()));
+        }
+        if (result.wasRetried()) {
+            getTest().warning("Retrying after " + kind + " failure: " + result.getThrowable());
+            LoggerUtil.warn("Retrying after " + kind + " failure: " + result.getName());
+        } else if (result.getStatus() == ITestResult.FAILURE) {
+            getTest().fail("Test failed (" + kind + "): " + result.getName(), result.getThrowable());
+            LoggerUtil.error("Test failed (" + kind + "): " + result.getName(), result.getThrowable());
+        } else if (result.getStatus() == ITestResult.SKIP) {
+            getTest().skip("Test skipped: " + result.getName());
+        } else {
+            getTest().pass("Test passed: " + result.getName());
         }
-        if (driver != null) {
+        for (PagePerformance.Measurement measurement : PagePerformance.drain()) {
+            if (measurement.violations().isEmpty()) {
+                getTest().info(measurement.toHtml());
+            } else {
+                getTest().warning(measurement.toHtml());
+            }
+        }
+        getTest().info("WebDriver commands: " + CommandCounter.current());
+        if (failed && kind == FailureKind.INFRA) {
             DriverFactory.quitDriver();
-            LoggerUtil.info("Driver closed for test: " + getClass().getSimpleName());
+        } else {
+            DriverFactory.releaseDriver();
         }
+        getTest().end();
+        test.remove();
+        LoggerUtil.info("Driver " + (failed && kind == FailureKind.INFRA ? "evicted" : "released") + " for test: "
+                + getClass().getSimpleName());
+        LoggerUtil.clearTestContext();
+        InteractionTimer.clearContext();
     }
 
     /**
-     * Flush Extent Reports after the test suite.
+     * Shut down the driver pools, wait for pending screenshots, export interaction timings and retries,
+     * and flush Extent Reports after the test suite.
      */
     @AfterSuite
     public void tearDownReport() {
+        DriverFactory.shutdown();
+        ScreenshotPipeline.awaitIdle(30);
+        InteractionTimer.export();
+        RetryPolicy.export();
         ReportUtils.flush();
     }
+
+    /**
+     * Get the WebDriver leased to the current test thread.
+     *
+     * @return The WebDriver instance.
+     */
+    protected WebDriver getDriver() {
+        return DriverFactory.getDriver();
+    }
+
+    /**
+     * Get the report node of the test running on the current thread.
+     *
+     * @return The ReportTest instance.
+     */
+    protected ReportTest getTest() {
+        return test.get();
+    }
+
+    /**
+     * Bring the browser to a named state, restoring a saved {@link BrowserCheckpoint} when there is a
+     * valid one and otherwise running the setup steps and saving the result for later tests.
+     *
+     * @param checkpoint The checkpoint name, e.g. {@code "search results DEL-BOM"}.
+     * @param setup      The steps that lead to the state from a fresh browser.
+     */
+    protected void startFrom(String checkpoint, Runnable setup) {
+        long start = System.nanoTime();
+        boolean restored = BrowserCheckpoint.reach(getDriver(), checkpoint, setup);
+        getTest().info((restored ? "Restored" : "Built") + " checkpoint '" + checkpoint + "' in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Get the URL tests should open for the site under test: the configured {@code baseUrl}, or its
+     * counterpart on the local {@link SiteStandIn} when one is configured.
+     *
+     * @return The base URL.
+     */
+    protected String baseUrl() {
+        return SiteStandIn.localUrl(ConfigurationManager.get(ConfigKeys.BASE_URL));
+    }
 }
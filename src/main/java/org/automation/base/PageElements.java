@@ -0,0 +1,233 @@
+package org.automation.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Drop-in replacement for {@code PageFactory.initElements} that caches resolved elements.
+ * <p>
+ * Each page instance resolves a field's element on first use and keeps it, so repeated access to
+ * the same field costs no {@code findElement} round trip. A cached element is only re-resolved when
+ * a call on it throws {@link StaleElementReferenceException}; the call is then retried once.
+ * {@code List<WebElement>} fields are looked up again on every use, so they track the page, but
+ * their items are cached the same way.
+ * The reflection work (which fields to decorate and their {@code By}) is done once per page class
+ * and shared by every later instance.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (package-private helper), Proxy pattern.
+ */
+final class PageElements {
+    private static final ClassValue<List<Binding>> bindings = new ClassValue<>() {
+        @Override
+        protected List<Binding> computeValue(Class<?> type) {
+            return scan(type);
+        }
+    };
+
+    private PageElements() {
+    }
+
+    /**
+     * Populate the WebElement and {@code List<WebElement>} fields of a page with caching proxies.
+     *
+     * @param context The driver (or element) to search from.
+     * @param page    The page object to populate.
+     */
+    static void init(SearchContext context, Object page) {
+        for (Binding binding : bindings.get(page.getClass())) {
+            Object proxy = binding.list ? listProxy(context, binding.by) : elementProxy(context, binding.by);
+            try {
+                binding.field.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot initialize page field " + binding.field, e);
+            }
+        }
+    }
+
+    private static List<Binding> scan(Class<?> type) {
+        List<Binding> result = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                boolean annotated = field.isAnnotationPresent(FindBy.class)
+                        || field.isAnnotationPresent(FindBys.class) || field.isAnnotationPresent(FindAll.class);
+                boolean element = field.getType() == WebElement.class;
+                boolean list = field.getType() == List.class && annotated && isWebElementList(field);
+                if (element || list) {
+                    field.setAccessible(true);
+                    result.add(new Binding(field, new Annotations(field).buildBy(), list));
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static boolean isWebElementList(Field field) {
+        return field.getGenericType() instanceof ParameterizedType
+                && ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0] == WebElement.class;
+    }
+
+    private static WebElement elementProxy(SearchContext context, By by) {
+        CachedElement handler = new CachedElement(by.toString(), () -> context.findElement(by));
+        return (WebElement) Proxy.newProxyInstance(PageElements.class.getClassLoader(),
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<WebElement> listProxy(SearchContext context, By by) {
+        CachedList handler = new CachedList(context, by);
+        return (List<WebElement>) Proxy.newProxyInstance(PageElements.class.getClassLoader(),
+                new Class<?>[]{List.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A page field to decorate, with its pre-built locator.
+     */
+    private static final class Binding {
+        private final Field field;
+        private final By by;
+        private final boolean list;
+
+        private Binding(Field field, By by, boolean list) {
+            this.field = field;
+            this.by = by;
+            this.list = list;
+        }
+    }
+
+    /**
+     * Resolves an element once and re-resolves it only after it went stale.
+     */
+    private static final class CachedElement implements InvocationHandler {
+        private final String description;
+        private final Supplier<WebElement> resolver;
+        private volatile WebElement cached;
+
+        private CachedElement(String description, Supplier<WebElement> resolver) {
+            this.description = description;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "toString":
+                    // no round trip, unlike PageFactory proxies; keeps logging cheap
+                    return "Proxy element for: " + description;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "getWrappedElement":
+                    return resolve();
+                default:
+                    break;
+            }
+            try {
+                return PageElements.invoke(resolve(), method, args);
+            } catch (StaleElementReferenceException e) {
+                cached = null;
+                return PageElements.invoke(resolve(), method, args);
+            }
+        }
+
+        private WebElement resolve() {
+            WebElement element = cached;
+            if (element == null) {
+                element = resolver.get();
+                cached = element;
+            }
+            return element;
+        }
+    }
+
+    /**
+     * Re-runs {@code findElements} on every call, like {@code PageFactory}, so cards that render
+     * later are seen. The item proxies are kept and pointed at the latest result; the first item
+     * found stale refreshes the list with a single findElements and the other items re-resolve from
+     * that refreshed list.
+     */
+    private static final class CachedList implements InvocationHandler {
+        private final SearchContext context;
+        private final By by;
+        private final List<WebElement> proxies = new ArrayList<>();
+        private final List<CachedElement> handlers = new ArrayList<>();
+        private final List<int[]> seenGenerations = new ArrayList<>();
+        private List<WebElement> raw = List.of();
+        private int generation;
+
+        private CachedList(SearchContext context, By by) {
+            this.context = context;
+            this.by = by;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element list for: " + by;
+            }
+            return PageElements.invoke(items(), method, args);
+        }
+
+        private synchronized List<WebElement> items() {
+            raw = context.findElements(by);
+            generation++;
+            for (int i = 0; i < raw.size(); i++) {
+                if (i == proxies.size()) {
+                    addItemProxy(i);
+                }
+                handlers.get(i).cached = raw.get(i);
+                seenGenerations.get(i)[0] = generation;
+            }
+            return List.copyOf(proxies.subList(0, raw.size()));
+        }
+
+        private void addItemProxy(int index) {
+            int[] seenGeneration = {-1};
+            CachedElement handler = new CachedElement(by + " [" + index + "]", () -> rawItem(index, seenGeneration));
+            handlers.add(handler);
+            seenGenerations.add(seenGeneration);
+            proxies.add((WebElement) Proxy.newProxyInstance(PageElements.class.getClassLoader(),
+                    new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class}, handler));
+        }
+
+        private synchronized WebElement rawItem(int index, int[] seenGeneration) {
+            if (seenGeneration[0] == generation) {
+                // this item already used the current list and went stale: refresh it
+                raw = context.findElements(by);
+                generation++;
+            }
+            seenGeneration[0] = generation;
+            if (index >= raw.size()) {
+                throw new StaleElementReferenceException("Element " + index + " of " + by + " is no longer present");
+            }
+            return raw.get(index);
+        }
+    }
+}
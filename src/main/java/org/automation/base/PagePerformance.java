@@ -0,0 +1,243 @@
+package org.automation.base;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.LoggerUtil;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects browser-side performance metrics for page objects and checks them against budgets.
+ * <p>
+ * {@link BasePage#measure()}, called once a page is ready, reads Navigation Timing, Resource Timing,
+ * paint, largest-contentful-paint, layout-shift and long-task entries (the last three through
+ * buffered {@code PerformanceObserver}s, where the browser supports them) in one script call. It
+ * waits for the load event only while a {@code domContentLoadedMillis} or {@code loadMillis} budget
+ * can still be met, and at most the wait timeout; timings that have not happened by then, e.g. the
+ * load event under {@code driver.pageLoadStrategy=eager}, are null. A budgeted load-event metric
+ * still null after its budget has passed is over budget; other budgeted metrics that stay null
+ * are logged as not measured. Each document is measured once, by the first page that measures it,
+ * and a document whose navigation entry is not for the current URL (a single-page-app route
+ * change) is not measured, so metrics are never filed under the wrong page.
+ * <p>
+ * Budgets come from {@code perf.budget.<PageClass>.<metric>} settings, then a
+ * {@link PerformanceBudget} annotation on the page class, then {@code perf.budget.default.<metric>}.
+ * A page over budget logs a warning, or fails the test with an {@link AssertionError} when
+ * {@code perf.budgetMode=fail}. Measurements are kept per thread until {@link #drain()}, which
+ * {@link BaseTest} uses to attach them to the test's report node. {@code perf.capture=false} turns
+ * capture off.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private script and budget lookup).
+ */
+public final class PagePerformance {
+    private static final List<String> METRICS = List.of("ttfbMillis", "domContentLoadedMillis", "loadMillis",
+            "fcpMillis", "lcpMillis", "cls", "longTasks", "totalBlockingTimeMillis", "requests", "transferKb");
+    private static final List<String> LOAD_EVENT_METRICS = List.of("domContentLoadedMillis", "loadMillis");
+    private static final int SLOWEST_RESOURCES = 5;
+
+    private static final String CAPTURE_SCRIPT =
+            "var page = arguments[0], slowest = arguments[1], waitUntil = arguments[2], giveUp = Date.now() + arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + "if (window.__automationPerf) { done('document already measured for ' + window.__automationPerf); return; }"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (!nav || nav.name !== location.href) { done('no navigation entry for ' + location.href); return; }"
+            + "window.__automationPerf = page;"
+            + "function number(value, digits) {"
+            + "  if (typeof value !== 'number') { return null; }"
+            + "  var scale = Math.pow(10, digits || 0); return Math.round(value * scale) / scale;"
+            + "}"
+            + "function ended(value) { return value > 0 ? number(value) : null; }"
+            + "function collect() {"
+            + "nav = performance.getEntriesByType('navigation')[0];"
+            + "var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];"
+            + "var entries = {}, observers = [];"
+            + "['largest-contentful-paint', 'layout-shift', 'longtask'].forEach(function (type) {"
+            + "  entries[type] = [];"
+            + "  if (supported.indexOf(type) < 0) { return; }"
+            + "  var observer = new PerformanceObserver(function (list) {"
+            + "    entries[type] = entries[type].concat(list.getEntries());"
+            + "  });"
+            + "  observer.observe({type: type, buffered: true});"
+            + "  observers.push({type: type, observer: observer});"
+            + "});"
+            + "setTimeout(function () {"
+            + "  observers.forEach(function (o) {"
+            + "    entries[o.type] = entries[o.type].concat(o.observer.takeRecords()); o.observer.disconnect();"
+            + "  });"
+            + "  var resources = performance.getEntriesByType('resource');"
+            + "  var paint = performance.getEntriesByName('first-contentful-paint')[0];"
+            + "  var lcp = entries['largest-contentful-paint'].pop();"
+            + "  var cls = 0, blocking = 0, transfer = nav.transferSize || 0;"
+            + "  entries['layout-shift'].forEach(function (e) { if (!e.hadRecentInput) { cls += e.value; } });"
+            + "  entries.longtask.forEach(function (e) { blocking += Math.max(0, e.duration - 50); });"
+            + "  resources.forEach(function (r) { transfer += r.transferSize || 0; });"
+            + "  done({url: location.href, ageMillis: number(performance.now()), ttfbMillis: number(nav.responseStart),"
+            + "    domContentLoadedMillis: ended(nav.domContentLoadedEventEnd), loadMillis: ended(nav.loadEventEnd),"
+            + "    fcpMillis: paint ? number(paint.startTime) : null, lcpMillis: lcp ? number(lcp.startTime) : null,"
+            + "    cls: supported.indexOf('layout-shift') < 0 ? null : number(cls, 3),"
+            + "    longTasks: supported.indexOf('longtask') < 0 ? null : entries.longtask.length,"
+            + "    totalBlockingTimeMillis: supported.indexOf('longtask') < 0 ? null : number(blocking),"
+            + "    requests: resources.length, transferKb: number(transfer / 1024, 1),"
+            + "    slowestResources: resources.slice().sort(function (a, b) { return b.duration - a.duration; })"
+            + "      .slice(0, slowest).map(function (r) {"
+            + "        return {name: r.name, durationMillis: number(r.duration), transferKb: number((r.transferSize || 0) / 1024, 1)};"
+            + "      })});"
+            + "}, 0);"
+            + "}"
+            + "(function wait() {"
+            + "  if (waitUntil < 0 || nav.loadEventEnd > 0 || performance.now() > waitUntil || Date.now() > giveUp) { collect(); }"
+            + "  else { setTimeout(wait, 50); nav = performance.getEntriesByType('navigation')[0]; }"
+            + "})();";
+
+    private static final ThreadLocal<List<Measurement>> measurements = ThreadLocal.withInitial(ArrayList::new);
+
+    private PagePerformance() {
+    }
+
+    /**
+     * The metrics of one page and the budgets they exceeded.
+     *
+     * @param page       The page class name.
+     * @param metrics    The metrics as returned by the browser; unsupported metrics are null.
+     * @param violations One description per exceeded budget.
+     */
+    public record Measurement(String page, Map<String, Object> metrics, List<String> violations) {
+
+        /**
+         * Render the measurement as an HTML table for the report.
+         *
+         * @return The HTML fragment.
+         */
+        public String toHtml() {
+            StringBuilder html = new StringBuilder("<b>Performance: ").append(escape(page)).append("</b> ")
+                    .append(escape(String.valueOf(metrics.get("url"))))
+                    .append("<table class='table table-sm'><tr><th>Metric</th><th>Value</th></tr>");
+            for (String metric : METRICS) {
+                html.append("<tr><td>").append(metric).append("</td><td>").append(metrics.get(metric))
+                        .append("</td></tr>");
+            }
+            html.append("</table>");
+            Object slowest = metrics.get("slowestResources");
+            if (slowest instanceof List<?> resources && !resources.isEmpty()) {
+                html.append("<b>Slowest resources</b><table class='table table-sm'><tr><th>URL</th><th>ms</th>")
+                        .append("<th>KiB</th></tr>");
+                for (Object resource : resources) {
+                    Map<?, ?> entry = (Map<?, ?>) resource;
+                    html.append("<tr><td>").append(escape(String.valueOf(entry.get("name")))).append("</td><td>")
+                            .append(entry.get("durationMillis")).append("</td><td>").append(entry.get("transferKb"))
+                            .append("</td></tr>");
+                }
+                html.append("</table>");
+            }
+            for (String violation : violations) {
+                html.append("<br/>Over budget: ").append(escape(violation));
+            }
+            return html.toString();
+        }
+    }
+
+    /**
+     * Measure the document a ready page is showing and check it against the page's budget.
+     *
+     * @param driver The page's driver.
+     * @param page   The page object.
+     * @throws AssertionError If the page is over budget and {@code perf.budgetMode=fail}.
+     */
+    static void capture(WebDriver driver, BasePage page) {
+        if (!ConfigurationManager.get(ConfigKeys.PERF_CAPTURE) || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+        String pageName = page.getClass().getSimpleName();
+        PerformanceBudget annotation = page.getClass().getAnnotation(PerformanceBudget.class);
+        Map<String, Double> budgets = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            budgets.put(metric, budget(pageName, metric, annotation));
+        }
+        double loadBudget = LOAD_EVENT_METRICS.stream().mapToDouble(budgets::get).max().orElse(-1);
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_SCRIPT, pageName, SLOWEST_RESOURCES,
+                    loadBudget, ConfigurationManager.get(ConfigKeys.WAIT_TIMEOUT).toMillis());
+        } catch (JavascriptException | ScriptTimeoutException e) {
+            LoggerUtil.debug(() -> "Performance capture unavailable on " + pageName + ": " + e.getClass().getSimpleName());
+            return;
+        }
+        if (!(result instanceof Map<?, ?> raw)) {
+            LoggerUtil.debug(() -> "Not measuring " + pageName + ": " + result);
+            return;
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        raw.forEach((key, value) -> metrics.put(String.valueOf(key), value));
+        List<String> violations = new ArrayList<>();
+        List<String> unmeasured = new ArrayList<>();
+        for (String metric : METRICS) {
+            double budget = budgets.get(metric);
+            Object value = metrics.get(metric);
+            if (budget < 0) {
+                continue;
+            }
+            if (value instanceof Number number && number.doubleValue() > budget) {
+                violations.add(metric + " " + number + " > " + budget);
+            } else if (value == null && LOAD_EVENT_METRICS.contains(metric)
+                    && metrics.get("ageMillis") instanceof Number age && age.doubleValue() > budget) {
+                violations.add(metric + " not reached within " + budget);
+            } else if (value == null) {
+                unmeasured.add(metric);
+            }
+        }
+        measurements.get().add(new Measurement(pageName, metrics, violations));
+        if (!unmeasured.isEmpty()) {
+            LoggerUtil.warn("Budgeted metrics not measured on " + pageName + ": " + String.join(", ", unmeasured));
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = "Performance budget exceeded on " + pageName + ": " + String.join(", ", violations);
+        if ("fail".equalsIgnoreCase(ConfigurationManager.get(ConfigKeys.PERF_BUDGET_MODE))) {
+            throw new AssertionError(message);
+        }
+        LoggerUtil.warn(message);
+    }
+
+    /**
+     * Take the measurements made on the current thread since the last call.
+     *
+     * @return The measurements, oldest first.
+     */
+    public static List<Measurement> drain() {
+        List<Measurement> taken = measurements.get();
+        measurements.remove();
+        return taken;
+    }
+
+    private static double budget(String pageName, String metric, PerformanceBudget annotation) {
+        String configured = ConfigurationManager.getProperty("perf.budget." + pageName + "." + metric);
+        if (configured != null) {
+            return Double.parseDouble(configured);
+        }
+        if (annotation != null) {
+            try {
+                double declared = (double) PerformanceBudget.class.getMethod(metric).invoke(annotation);
+                if (declared >= 0) {
+                    return declared;
+                }
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("No budget attribute for metric " + metric, e);
+            }
+        }
+        String fallback = ConfigurationManager.getProperty("perf.budget.default." + metric);
+        return fallback == null ? -1 : Double.parseDouble(fallback);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
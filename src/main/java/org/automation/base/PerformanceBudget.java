@@ -0,0 +1,70 @@
+package org.automation.base;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Performance budget for a page object, checked by {@link PagePerformance} when the page is measured.
+ * Limits left at -1 are not checked. A {@code perf.budget.<PageClass>.<metric>} setting overrides
+ * the annotation, and {@code perf.budget.default.<metric>} applies to pages without either.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (declarative metadata).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerformanceBudget {
+
+    /**
+     * @return Maximum time to first byte, in milliseconds.
+     */
+    double ttfbMillis() default -1;
+
+    /**
+     * @return Maximum time until {@code DOMContentLoaded} finished, in milliseconds.
+     */
+    double domContentLoadedMillis() default -1;
+
+    /**
+     * @return Maximum time until the {@code load} event finished, in milliseconds.
+     */
+    double loadMillis() default -1;
+
+    /**
+     * @return Maximum first contentful paint, in milliseconds.
+     */
+    double fcpMillis() default -1;
+
+    /**
+     * @return Maximum largest contentful paint, in milliseconds.
+     */
+    double lcpMillis() default -1;
+
+    /**
+     * @return Maximum cumulative layout shift score.
+     */
+    double cls() default -1;
+
+    /**
+     * @return Maximum number of long tasks (over 50 ms) on the main thread.
+     */
+    double longTasks() default -1;
+
+    /**
+     * @return Maximum total blocking time (long task time beyond 50 ms each), in milliseconds.
+     */
+    double totalBlockingTimeMillis() default -1;
+
+    /**
+     * @return Maximum number of resource requests.
+     */
+    double requests() default -1;
+
+    /**
+     * @return Maximum transferred size of the document and its resources, in KiB.
+     */
+    double transferKb() default -1;
+}
@@ -0,0 +1,119 @@
+package org.automation.config;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * A typed configuration key: its name in {@code config.properties}, how its value is parsed and
+ * the value used when no layer sets it. Parsed values are cached per configuration snapshot, so
+ * reading a key costs one map lookup after the first use.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private parser), Generics, Factory methods.
+ *
+ * @param <T> The value type.
+ */
+public final class ConfigKey<T> {
+    private final String name;
+    private final T defaultValue;
+    private final Function<String, T> parser;
+
+    private ConfigKey(String name, T defaultValue, Function<String, T> parser) {
+        this.name = name;
+        this.defaultValue = defaultValue;
+        this.parser = parser;
+    }
+
+    /**
+     * Create a text key.
+     *
+     * @param name         The property name.
+     * @param defaultValue The value when unset; may be null for required keys.
+     * @return The key.
+     */
+    public static ConfigKey<String> text(String name, String defaultValue) {
+        return new ConfigKey<>(name, defaultValue, String::trim);
+    }
+
+    /**
+     * Create an integer key.
+     *
+     * @param name         The property name.
+     * @param defaultValue The value when unset.
+     * @return The key.
+     */
+    public static ConfigKey<Integer> integer(String name, int defaultValue) {
+        return new ConfigKey<>(name, defaultValue, value -> Integer.parseInt(value.trim()));
+    }
+
+    /**
+     * Create an integer key without a default, for settings the framework derives when they are unset.
+     *
+     * @param name The property name.
+     * @return The key, whose value is null when no layer sets it.
+     */
+    public static ConfigKey<Integer> integer(String name) {
+        return new ConfigKey<>(name, null, value -> Integer.parseInt(value.trim()));
+    }
+
+    /**
+     * Create a decimal key.
+     *
+     * @param name         The property name.
+     * @param defaultValue The value when unset.
+     * @return The key.
+     */
+    public static ConfigKey<Double> decimal(String name, double defaultValue) {
+        return new ConfigKey<>(name, defaultValue, value -> Double.parseDouble(value.trim()));
+    }
+
+    /**
+     * Create a boolean key.
+     *
+     * @param name         The property name.
+     * @param defaultValue The value when unset.
+     * @return The key.
+     */
+    public static ConfigKey<Boolean> bool(String name, boolean defaultValue) {
+        return new ConfigKey<>(name, defaultValue, value -> Boolean.parseBoolean(value.trim()));
+    }
+
+    /**
+     * Create a duration key whose value is a whole number of seconds.
+     *
+     * @param name           The property name.
+     * @param defaultSeconds The value when unset.
+     * @return The key.
+     */
+    public static ConfigKey<Duration> seconds(String name, long defaultSeconds) {
+        return new ConfigKey<>(name, Duration.ofSeconds(defaultSeconds),
+                value -> Duration.ofSeconds(Long.parseLong(value.trim())));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public T getDefaultValue() {
+        return defaultValue;
+    }
+
+    /**
+     * Parse a raw value for this key.
+     *
+     * @param value The raw value.
+     * @return The parsed value.
+     * @throws IllegalArgumentException If the value cannot be parsed.
+     */
+    T parse(String value) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Property '" + name + "' has an invalid value: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
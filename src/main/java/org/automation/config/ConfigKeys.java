@@ -0,0 +1,104 @@
+package org.automation.config;
+
+import java.time.Duration;
+
+/**
+ * The framework's well-known configuration keys with their types and defaults. Prefer these over
+ * string lookups, so a misspelt key is a compile error instead of a silent default.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (constants holder).
+ */
+public final class ConfigKeys {
+    public static final ConfigKey<String> BROWSER = ConfigKey.text("browser", "chrome");
+    public static final ConfigKey<String> BASE_URL = ConfigKey.text("baseUrl", null);
+    public static final ConfigKey<Boolean> DRIVER_HEADLESS = ConfigKey.bool("driver.headless", false);
+    public static final ConfigKey<String> DRIVER_PROFILE = ConfigKey.text("driver.profile", "default");
+    public static final ConfigKey<String> DRIVER_WINDOW_SIZE = ConfigKey.text("driver.windowSize", "");
+    public static final ConfigKey<String> DRIVER_PAGE_LOAD_STRATEGY = ConfigKey.text("driver.pageLoadStrategy", "normal");
+    public static final ConfigKey<String> DRIVER_BLOCKED_URLS = ConfigKey.text("driver.blockedUrls", "");
+    public static final ConfigKey<String> DRIVER_DISK_CACHE_DIR = ConfigKey.text("driver.diskCacheDir", "");
+
+    public static final ConfigKey<String> PARALLEL_MODE = ConfigKey.text("parallel.mode", "methods");
+    public static final ConfigKey<Integer> PARALLEL_THREAD_COUNT = ConfigKey.integer("parallel.threadCount", 0);
+    public static final ConfigKey<Integer> PARALLEL_MAX_THREADS = ConfigKey.integer("parallel.maxThreads", Integer.MAX_VALUE);
+    public static final ConfigKey<Integer> PARALLEL_CORES_PER_BROWSER = ConfigKey.integer("parallel.coresPerBrowser", 1);
+    public static final ConfigKey<Integer> PARALLEL_MEMORY_RESERVE_MB = ConfigKey.integer("parallel.memoryReserveMb", 1024);
+    public static final ConfigKey<String> HISTORY_DIR = ConfigKey.text("history.dir", ".automation-history");
+
+    public static final ConfigKey<Duration> WAIT_TIMEOUT = ConfigKey.seconds("wait.timeoutSeconds", 10);
+    public static final ConfigKey<Integer> WAIT_INITIAL_POLL_MILLIS = ConfigKey.integer("wait.initialPollMillis", 10);
+    public static final ConfigKey<Integer> WAIT_MAX_POLL_MILLIS = ConfigKey.integer("wait.maxPollMillis", 250);
+    public static final ConfigKey<String> WAIT_MODE = ConfigKey.text("wait.mode", "poll");
+
+    public static final ConfigKey<String> GRID_ENDPOINTS = ConfigKey.text("grid.endpoints", "");
+    public static final ConfigKey<Duration> GRID_QUEUE_TIMEOUT = ConfigKey.seconds("grid.queueTimeoutSeconds", 120);
+    public static final ConfigKey<Integer> GRID_STATUS_INTERVAL_MILLIS = ConfigKey.integer("grid.statusIntervalMillis", 1000);
+
+    public static final ConfigKey<Integer> POOL_MAX_SIZE = ConfigKey.integer("pool.maxSize");
+    public static final ConfigKey<Integer> POOL_PREWARM = ConfigKey.integer("pool.prewarm");
+    public static final ConfigKey<Integer> POOL_MAX_REUSE = ConfigKey.integer("pool.maxReuse", 50);
+    public static final ConfigKey<Integer> POOL_SPARES = ConfigKey.integer("pool.spares", 1);
+    public static final ConfigKey<Duration> POOL_LEASE_TIMEOUT = ConfigKey.seconds("pool.leaseTimeoutSeconds", 120);
+
+    public static final ConfigKey<Boolean> WATCHDOG_ENABLED = ConfigKey.bool("watchdog.enabled", true);
+    public static final ConfigKey<Duration> WATCHDOG_INTERVAL = ConfigKey.seconds("watchdog.intervalSeconds", 5);
+    public static final ConfigKey<Integer> WATCHDOG_MAX_RSS_MB = ConfigKey.integer("watchdog.maxRssMb", 1500);
+    public static final ConfigKey<Integer> WATCHDOG_MAX_HEAP_PERCENT = ConfigKey.integer("watchdog.maxHeapPercent", 85);
+
+    public static final ConfigKey<Integer> DATA_SHARD_INDEX = ConfigKey.integer("data.shard.index", 0);
+    public static final ConfigKey<Integer> DATA_SHARD_COUNT = ConfigKey.integer("data.shard.count", 1);
+    public static final ConfigKey<Integer> DATA_START_ROW = ConfigKey.integer("data.startRow", 0);
+
+    public static final ConfigKey<Boolean> REPORT_HTML = ConfigKey.bool("report.html", true);
+    public static final ConfigKey<Duration> REPORT_FLUSH_INTERVAL = ConfigKey.seconds("report.flushIntervalSeconds", 5);
+    public static final ConfigKey<String> REPORT_DIR = ConfigKey.text("report.dir", "");
+
+    public static final ConfigKey<String> SCREENSHOT_FORMAT = ConfigKey.text("screenshot.format", "jpg");
+    public static final ConfigKey<Integer> SCREENSHOT_QUALITY = ConfigKey.integer("screenshot.quality", 70);
+    public static final ConfigKey<Integer> SCREENSHOT_MAX_DIMENSION = ConfigKey.integer("screenshot.maxDimension", 1280);
+    public static final ConfigKey<Integer> SCREENSHOT_THREADS = ConfigKey.integer("screenshot.threads", 2);
+    public static final ConfigKey<Integer> SCREENSHOT_QUEUE_SIZE = ConfigKey.integer("screenshot.queueSize", 32);
+
+    public static final ConfigKey<Integer> RESULTS_WINDOW_SIZE = ConfigKey.integer("results.windowSize", 20);
+    public static final ConfigKey<Integer> RESULTS_LOAD_TIMEOUT_MILLIS = ConfigKey.integer("results.loadTimeoutMillis", 3000);
+
+    public static final ConfigKey<String> STANDIN_MODE = ConfigKey.text("standin.mode", "off");
+    public static final ConfigKey<String> STANDIN_ARCHIVE = ConfigKey.text("standin.archive", "");
+    public static final ConfigKey<Integer> STANDIN_PORT = ConfigKey.integer("standin.port", 0);
+    public static final ConfigKey<String> STANDIN_IGNORED_PARAMS = ConfigKey.text("standin.ignoredParams", "_,cb,t,ts");
+    public static final ConfigKey<Integer> STANDIN_LATENCY_MILLIS = ConfigKey.integer("standin.latencyMillis", 0);
+    public static final ConfigKey<Integer> STANDIN_JITTER_MILLIS = ConfigKey.integer("standin.jitterMillis", 0);
+
+    public static final ConfigKey<String> SCHEDULE_ORDER = ConfigKey.text("schedule.order", "history");
+    public static final ConfigKey<Double> SCHEDULE_FLAKY_THRESHOLD = ConfigKey.decimal("schedule.flakyThreshold", 0.2);
+    public static final ConfigKey<String> SCHEDULE_CHANGED_SINCE = ConfigKey.text("schedule.changedSince", "");
+
+    public static final ConfigKey<Integer> SHARD_INDEX = ConfigKey.integer("shard.index", 0);
+    public static final ConfigKey<Integer> SHARD_COUNT = ConfigKey.integer("shard.count", 1);
+    public static final ConfigKey<String> SHARD_HISTORY_FILE = ConfigKey.text("shard.historyFile", "");
+
+    public static final ConfigKey<Boolean> RETRY_ENABLED = ConfigKey.bool("retry.enabled", true);
+    public static final ConfigKey<Integer> RETRY_INFRA_MAX = ConfigKey.integer("retry.infraMax", 2);
+    public static final ConfigKey<Integer> RETRY_TIMING_MAX = ConfigKey.integer("retry.timingMax", 1);
+    public static final ConfigKey<Integer> RETRY_SUITE_BUDGET = ConfigKey.integer("retry.suiteBudget", 10);
+
+    public static final ConfigKey<Boolean> PERF_CAPTURE = ConfigKey.bool("perf.capture", true);
+    public static final ConfigKey<String> PERF_BUDGET_MODE = ConfigKey.text("perf.budgetMode", "warn");
+
+    public static final ConfigKey<Boolean> CHECKPOINT_ENABLED = ConfigKey.bool("checkpoint.enabled", true);
+    public static final ConfigKey<Duration> CHECKPOINT_TTL = ConfigKey.seconds("checkpoint.ttlSeconds", 1800);
+    public static final ConfigKey<String> CHECKPOINT_LANDING_PATH = ConfigKey.text("checkpoint.landingPath", "/robots.txt");
+
+    public static final ConfigKey<String> LOAD_JOURNEY = ConfigKey.text("load.journey", "booking");
+    public static final ConfigKey<Integer> LOAD_ITERATIONS = ConfigKey.integer("load.iterations", 20);
+    public static final ConfigKey<Integer> LOAD_RATE_PER_MINUTE = ConfigKey.integer("load.ratePerMinute", 0);
+    public static final ConfigKey<Duration> LOAD_RAMP = ConfigKey.seconds("load.rampSeconds", 0);
+    public static final ConfigKey<Integer> LOAD_DRIVERS = ConfigKey.integer("load.drivers", 4);
+    public static final ConfigKey<Boolean> LOAD_HEADLESS = ConfigKey.bool("load.headless", true);
+
+    public static final ConfigKey<Boolean> CONFIG_WATCH = ConfigKey.bool("config.watch", false);
+    public static final ConfigKey<String> CONFIG_FILE = ConfigKey.text("config.file", "");
+
+    private ConfigKeys() {
+    }
+}
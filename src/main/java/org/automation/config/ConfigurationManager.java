@@ -1,26 +1,66 @@
 package org.automation.config;
 
 import org.automation.utils.LoggerUtil;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Singleton class to load and manage configuration from properties file.
  * <p>
+ * Settings are layered, later layers winning: the defaults of {@link ConfigKeys}, the classpath
+ * {@code config.properties}, an optional external file named by {@code config.file}, environment
+ * variables ({@code AUTOMATION_} plus the key upper-cased with dots as underscores, e.g.
+ * {@code AUTOMATION_POOL_MAXSIZE}, for any key in the files or in {@link ConfigKeys}) and {@code -D}
+ * system properties. Every {@link ConfigKeys} value is parsed when the layers are loaded, so a
+ * malformed setting fails the load instead of a later lookup.
+ * <p>
+ * The layers are merged into an immutable snapshot held in a volatile field, so lookups from
+ * parallel test threads take no lock, and typed values are parsed once per snapshot. With
+ * {@code config.watch=true}, a daemon thread reloads the snapshot when either properties file
+ * changes on disk, which lets a long soak run be retuned without a restart. Settings read on every
+ * use take effect at once; components that read a setting when they start keep their value.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (private static field), Singleton pattern.
  */
 public class ConfigurationManager {
-    private static final Properties properties = new Properties();
+    private static final String CONFIG_RESOURCE = "config.properties";
+    private static final String ENV_PREFIX = "AUTOMATION_";
+
+    private static volatile Snapshot snapshot;
 
     static {
         try {
-            properties.load(ConfigurationManager.class.getClassLoader()
-                    .getResourceAsStream("config.properties"));
+            snapshot = load();
             LoggerUtil.info("Configuration loaded successfully");
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             LoggerUtil.error("Failed to load configuration", e);
             throw new RuntimeException("Failed to load configuration", e);
         }
+        if (get(ConfigKeys.CONFIG_WATCH)) {
+            watch();
+        }
     }
 
     /**
@@ -30,6 +70,236 @@ public class ConfigurationManager {
      * @return The value of the property.
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.values().get(key);
+    }
+
+    /**
+     * Get property value by key, falling back to a default when it is not set.
+     *
+     * @param key          The key of the property.
+     * @param defaultValue The value to return when the key is missing.
+     * @return The value of the property, or the default.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return snapshot.values().getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Get an integer property value by key, falling back to a default when it is not set.
+     *
+     * @param key          The key of the property.
+     * @param defaultValue The value to return when the key is missing.
+     * @return The parsed value of the property, or the default.
+     */
+    public static int getIntProperty(String key, int defaultValue) {
+        Snapshot current = snapshot;
+        Object cached = current.parsed().get(key);
+        if (cached instanceof Integer) {
+            return (Integer) cached;
+        }
+        String value = current.values().get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            current.parsed().put(key, parsed);
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Property '" + key + "' is not an integer: " + value, e);
+        }
+    }
+
+    /**
+     * Get the typed value of a key.
+     *
+     * @param key The key, usually one of {@link ConfigKeys}.
+     * @param <T> The value type.
+     * @return The parsed value, or the key's default when no layer sets it.
+     * @throws IllegalArgumentException If the configured value cannot be parsed.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(ConfigKey<T> key) {
+        Snapshot current = snapshot;
+        Object cached = current.parsed().get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        String value = current.values().get(key.getName());
+        if (value == null || value.isBlank()) {
+            return key.getDefaultValue();
+        }
+        T parsed = key.parse(value);
+        current.parsed().put(key, parsed);
+        return parsed;
+    }
+
+    /**
+     * Rebuild the configuration from all layers and swap it in. Readers see either the old or the
+     * new snapshot, never a mix. If a layer cannot be read, or a well-known key in it cannot be
+     * parsed, the current configuration is kept.
+     */
+    public static void reload() {
+        try {
+            Snapshot next = load();
+            List<String> changed = new ArrayList<>();
+            Set<String> keys = new TreeSet<>(snapshot.values().keySet());
+            keys.addAll(next.values().keySet());
+            for (String key : keys) {
+                if (!Objects.equals(snapshot.values().get(key), next.values().get(key))) {
+                    changed.add(key);
+                }
+            }
+            snapshot = next;
+            LoggerUtil.info("Configuration reloaded; changed keys: " + changed);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.error("Failed to reload configuration; keeping the current one", e);
+        }
+    }
+
+    private static Snapshot load() throws IOException {
+        Map<String, String> values = new HashMap<>();
+        Properties file = new Properties();
+        try (InputStream in = ConfigurationManager.class.getClassLoader().getResourceAsStream(CONFIG_RESOURCE)) {
+            if (in == null) {
+                throw new IOException(CONFIG_RESOURCE + " not found on the classpath");
+            }
+            file.load(in);
+        }
+        file.stringPropertyNames().forEach(key -> values.put(key, file.getProperty(key)));
+        Path external = externalFile();
+        if (external != null) {
+            Properties overrides = new Properties();
+            try (InputStream in = Files.newInputStream(external)) {
+                overrides.load(in);
+            }
+            overrides.stringPropertyNames().forEach(key -> values.put(key, overrides.getProperty(key)));
+        }
+        Map<String, String> knownKeys = knownKeys(values);
+        System.getenv().forEach((name, value) -> {
+            if (name.regionMatches(true, 0, ENV_PREFIX, 0, ENV_PREFIX.length())) {
+                String key = knownKeys.get(name.substring(ENV_PREFIX.length()).toUpperCase());
+                if (key != null) {
+                    values.put(key, value);
+                } else {
+                    LoggerUtil.warn("Ignoring environment variable " + name + ": no such configuration key");
+                }
+            }
+        });
+        Properties system = System.getProperties();
+        system.stringPropertyNames().forEach(key -> values.put(key, system.getProperty(key)));
+        Snapshot loaded = new Snapshot(Map.copyOf(values), new ConcurrentHashMap<>());
+        for (ConfigKey<?> key : wellKnownKeys()) {
+            // parse every well-known key now, so a bad value is rejected here rather than in a running test
+            String value = loaded.values().get(key.getName());
+            if (value != null && !value.isBlank()) {
+                loaded.parsed().put(key, key.parse(value));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Keys an environment variable may set, by their environment form (upper case, dots as
+     * underscores): every key in the files and every well-known key.
+     */
+    private static Map<String, String> knownKeys(Map<String, String> values) {
+        Map<String, String> keys = new HashMap<>();
+        values.keySet().forEach(key -> keys.put(key.toUpperCase().replace('.', '_'), key));
+        wellKnownKeys().forEach(key -> keys.put(key.getName().toUpperCase().replace('.', '_'), key.getName()));
+        return keys;
+    }
+
+    private static List<ConfigKey<?>> wellKnownKeys() {
+        List<ConfigKey<?>> keys = new ArrayList<>();
+        for (Field field : ConfigKeys.class.getFields()) {
+            try {
+                keys.add((ConfigKey<?>) field.get(null));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot read " + field, e);
+            }
+        }
+        return keys;
+    }
+
+    private static Path externalFile() {
+        String location = System.getProperty(ConfigKeys.CONFIG_FILE.getName(), System.getenv(ENV_PREFIX + "CONFIG_FILE"));
+        return location == null || location.isBlank() ? null : Paths.get(location.trim());
+    }
+
+    private static Path classpathFile() {
+        URL url = ConfigurationManager.class.getClassLoader().getResource(CONFIG_RESOURCE);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(url.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Start a daemon thread that reloads the configuration when a properties file changes.
+     */
+    private static void watch() {
+        List<Path> files = new ArrayList<>();
+        if (classpathFile() != null) {
+            files.add(classpathFile().toAbsolutePath());
+        }
+        if (externalFile() != null) {
+            files.add(externalFile().toAbsolutePath());
+        }
+        if (files.isEmpty()) {
+            LoggerUtil.warn("config.watch is set but no configuration file is on disk to watch");
+            return;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path file : files) {
+                file.getParent().register(service, StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_CREATE);
+            }
+            Thread watcher = new Thread(() -> watchLoop(service, files), "config-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            LoggerUtil.info("Watching " + files + " for configuration changes");
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to watch configuration files", e);
+        }
+    }
+
+    private static void watchLoop(WatchService service, List<Path> files) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean relevant = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Path changed = ((Path) key.watchable()).resolve((Path) event.context());
+                    relevant |= files.contains(changed);
+                }
+                key.reset();
+                if (relevant) {
+                    // editors often write a file in several steps; let them finish
+                    Thread.sleep(200);
+                    WatchKey pending;
+                    while ((pending = service.poll()) != null) {
+                        pending.pollEvents();
+                        pending.reset();
+                    }
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            LoggerUtil.warn("Configuration watcher stopped");
+        }
+    }
+
+    /**
+     * One immutable view of the merged layers, with the typed values parsed from it so far.
+     */
+    private record Snapshot(Map<String, String> values, Map<Object, Object> parsed) {
     }
-}
\ No newline at end of file
+}
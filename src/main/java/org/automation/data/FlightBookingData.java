@@ -0,0 +1,11 @@
+package org.automation.data;
+
+/**
+ * Typed test data for a flight search, bound from the {@code testdata.json} entries.
+ *
+ * @param fromCity      The departure city.
+ * @param toCity        The destination city.
+ * @param departureDate The departure date in format "dd MMM yyyy".
+ */
+public record FlightBookingData(String fromCity, String toCity, String departureDate) {
+}
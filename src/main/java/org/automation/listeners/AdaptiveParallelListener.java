@@ -0,0 +1,37 @@
+package org.automation.listeners;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.HostCapacity;
+import org.automation.utils.LoggerUtil;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * TestNG listener that sizes each suite's thread count for the host it runs on instead of the
+ * fixed value in the suite XML.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements IAlterSuiteListener), Encapsulation.
+ */
+public class AdaptiveParallelListener implements IAlterSuiteListener {
+
+    /**
+     * Set the parallel mode and thread count of every suite before TestNG builds its runners.
+     *
+     * @param suites The suites about to run.
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = HostCapacity.safeConcurrency();
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(
+                ConfigurationManager.get(ConfigKeys.PARALLEL_MODE));
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threads);
+            suite.setDataProviderThreadCount(threads);
+            LoggerUtil.info("Suite " + suite.getName() + " set to parallel=" + mode + " with " + threads + " threads");
+        }
+    }
+}
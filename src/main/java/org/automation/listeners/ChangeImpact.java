@@ -0,0 +1,128 @@
+package org.automation.listeners;
+
+import org.automation.pages.HomePage;
+import org.automation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Works out which test classes a set of source changes can affect, from {@code git diff} against a
+ * revision plus untracked files.
+ * <p>
+ * A test class is affected when its own source changed or it refers to a page object that changed.
+ * Any other change under {@code src/main} or to {@code pom.xml} may affect every test, so it selects
+ * everything; changes outside the build (docs, benchmarks) select nothing.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private parsing helpers).
+ */
+final class ChangeImpact {
+    private static final String PAGES_DIR = "src/main/java/" + HomePage.class.getPackageName().replace('.', '/') + "/";
+    private static final String TEST_SOURCES = "src/test/java/";
+
+    private final boolean everything;
+    private final Set<String> changedPages = new HashSet<>();
+    private final Set<String> changedTests = new HashSet<>();
+    private final Map<Class<?>, Boolean> affected = new ConcurrentHashMap<>();
+
+    private ChangeImpact(List<String> changedFiles) {
+        boolean framework = false;
+        for (String file : changedFiles) {
+            if (file.startsWith(PAGES_DIR) && file.endsWith(".java")) {
+                changedPages.add(file.substring(file.lastIndexOf('/') + 1, file.length() - ".java".length()));
+            } else if (file.startsWith(TEST_SOURCES) && file.endsWith(".java")) {
+                changedTests.add(file.substring(TEST_SOURCES.length(), file.length() - ".java".length())
+                        .replace('/', '.'));
+            } else if (file.startsWith("src/main/") || file.equals("pom.xml")) {
+                framework = true;
+            }
+        }
+        this.everything = framework;
+    }
+
+    /**
+     * Collect the files changed since a revision in the working tree, including untracked files.
+     *
+     * @param revision The git revision to compare with, e.g. {@code origin/main}.
+     * @return The impact of the changes.
+     * @throws IllegalStateException If git fails, e.g. outside a repository or for an unknown revision.
+     */
+    static ChangeImpact since(String revision) {
+        List<String> files = git("diff", "--name-only", "--relative", revision);
+        files.addAll(git("ls-files", "--others", "--exclude-standard"));
+        ChangeImpact impact = new ChangeImpact(files);
+        LoggerUtil.info("Changes since " + revision + ": " + files.size() + " file(s), pages " + impact.changedPages
+                + ", tests " + impact.changedTests + (impact.everything ? ", framework code" : ""));
+        return impact;
+    }
+
+    /**
+     * Check whether a test class can be affected by the changes.
+     *
+     * @param testClass The test class.
+     * @return True if the class should run.
+     */
+    boolean affects(Class<?> testClass) {
+        if (everything || changedTests.contains(testClass.getName())) {
+            return true;
+        }
+        if (changedPages.isEmpty()) {
+            return false;
+        }
+        return affected.computeIfAbsent(testClass, this::refersToChangedPage);
+    }
+
+    private boolean refersToChangedPage(Class<?> testClass) {
+        Path source = Paths.get(TEST_SOURCES, testClass.getName().replace('.', '/') + ".java");
+        if (!Files.isReadable(source)) {
+            // without the source the dependency cannot be ruled out
+            return true;
+        }
+        try {
+            String code = Files.readString(source, StandardCharsets.UTF_8);
+            return changedPages.stream().anyMatch(page ->
+                    Pattern.compile("\\b" + Pattern.quote(page) + "\\b").matcher(code).find());
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to read " + source, e);
+            return true;
+        }
+    }
+
+    private static List<String> git(String... args) {
+        String[] command = new String[args.length + 1];
+        command[0] = "git";
+        System.arraycopy(args, 0, command, 1, args.length);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " failed: " + output.trim());
+            }
+            return Arrays.stream(output.split("\\R"))
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to run git", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running git", e);
+        }
+    }
+}
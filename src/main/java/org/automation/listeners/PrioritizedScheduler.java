@@ -0,0 +1,158 @@
+package org.automation.listeners;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.LoggerUtil;
+import org.automation.utils.SuiteShard;
+import org.automation.utils.TestHistory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * TestNG listener that orders, and optionally selects, the suite's test methods from their
+ * {@link TestHistory}, and records each run back into it. Attempts that {@link RetryPolicy}
+ * retried count as failures, so tests that pass only on retry show up as flaky.
+ * <p>
+ * With {@code schedule.order=history} (the default), methods run in three groups:
+ * <ol>
+ *     <li>recently failing or flaky methods (last run failed, or failure rate at least
+ *     {@code schedule.flakyThreshold}), most failure-prone first, for fast feedback;</li>
+ *     <li>methods with no history yet, in declaration order;</li>
+ *     <li>everything else, longest first, which keeps the threads evenly loaded at the end of the
+ *     run (longest processing time first).</li>
+ * </ol>
+ * The order holds across classes with {@code parallel="methods"}, as the suites run; sequential
+ * TestNG runs keep each class's methods together. {@code schedule.order=declared} keeps the suite
+ * XML order. With {@code schedule.changedSince} set
+ * to a git revision (usually on the command line, {@code -Dschedule.changedSince=origin/main}),
+ * only test classes affected by changes since that revision run; see {@link ChangeImpact}.
+ * <p>
+ * When the suite is split with {@code shard.count}, the selected methods are divided between the
+ * shards before ordering, by their durations in the {@code shard.historyFile} snapshot every shard
+ * is given, or evenly by count without one; see {@link SuiteShard#assign} and {@link TestHistory#pinned()}.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements TestNG listener interfaces), Encapsulation.
+ */
+public class PrioritizedScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    /**
+     * Select and order the methods TestNG is about to run.
+     *
+     * @param methods The methods in declaration order.
+     * @param context The test context.
+     * @return The methods to run, in order.
+     */
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Map<String, TestHistory.Stats> history = TestHistory.load();
+        Map<String, TestHistory.Stats> pinned = SuiteShard.isSharded() ? TestHistory.pinned() : Map.of();
+        List<IMethodInstance> selected = SuiteShard.assign(select(methods), method -> testId(method.getMethod()),
+                method -> {
+                    TestHistory.Stats stats = pinned.get(testId(method.getMethod()));
+                    return stats == null ? -1 : stats.meanMillis();
+                });
+        if ("declared".equalsIgnoreCase(ConfigurationManager.get(ConfigKeys.SCHEDULE_ORDER))) {
+            return selected;
+        }
+        double flakyThreshold = ConfigurationManager.get(ConfigKeys.SCHEDULE_FLAKY_THRESHOLD);
+        List<IMethodInstance> failing = new ArrayList<>();
+        List<IMethodInstance> unknown = new ArrayList<>();
+        List<IMethodInstance> known = new ArrayList<>();
+        for (IMethodInstance method : selected) {
+            TestHistory.Stats stats = history.get(testId(method.getMethod()));
+            if (stats == null) {
+                unknown.add(method);
+            } else if (stats.lastFailed() || stats.failureRate() >= flakyThreshold) {
+                failing.add(method);
+            } else {
+                known.add(method);
+            }
+        }
+        Comparator<IMethodInstance> byDuration = Comparator.comparingDouble(
+                method -> history.get(testId(method.getMethod())).meanMillis());
+        failing.sort(Comparator.<IMethodInstance>comparingDouble(
+                method -> history.get(testId(method.getMethod())).failureRate()).reversed()
+                .thenComparing(byDuration.reversed()));
+        known.sort(byDuration.reversed());
+        List<IMethodInstance> ordered = new ArrayList<>(selected.size());
+        ordered.addAll(failing);
+        ordered.addAll(unknown);
+        ordered.addAll(known);
+        LoggerUtil.info("Scheduled " + ordered.size() + " method(s): " + failing.size() + " failing or flaky, "
+                + unknown.size() + " without history, " + known.size() + " longest first");
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            record(result, true);
+        }
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestHistory.save();
+    }
+
+    /**
+     * Get the ID a test method's history is kept under.
+     *
+     * @param method The test method.
+     * @return The fully qualified method name.
+     */
+    public static String testId(ITestNGMethod method) {
+        return method.getRealClass().getName() + "." + method.getMethodName();
+    }
+
+    private static void record(ITestResult result, boolean failed) {
+        TestHistory.record(testId(result.getMethod()), result.getEndMillis() - result.getStartMillis(), failed);
+    }
+
+    private static List<IMethodInstance> select(List<IMethodInstance> methods) {
+        String revision = ConfigurationManager.get(ConfigKeys.SCHEDULE_CHANGED_SINCE);
+        if (revision.isBlank()) {
+            return methods;
+        }
+        ChangeImpact impact;
+        try {
+            impact = ChangeImpact.since(revision);
+        } catch (IllegalStateException e) {
+            LoggerUtil.error("Cannot select tests by changes since " + revision + "; running all", e);
+            return methods;
+        }
+        List<IMethodInstance> selected = methods.stream()
+                .filter(method -> impact.affects(method.getMethod().getRealClass()))
+                .collect(Collectors.toList());
+        LoggerUtil.info("Selected " + selected.size() + " of " + methods.size() + " method(s) affected by changes since "
+                + revision);
+        return selected;
+    }
+}
@@ -0,0 +1,136 @@
+package org.automation.listeners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.FailureKind;
+import org.automation.utils.LoggerUtil;
+import org.automation.utils.ReportUtils;
+import org.automation.utils.SuiteShard;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestNG retry analyzer that runs a failed test again only when its {@link FailureKind} suggests the
+ * failure was not the product's fault.
+ * <p>
+ * Each test invocation may retry {@code retry.infraMax} times after infrastructure failures and
+ * {@code retry.timingMax} times after timing failures; product failures are never retried. All
+ * retries in the suite share a budget of {@code retry.suiteBudget}, so a broken environment fails
+ * fast instead of running everything several times. {@code retry.enabled=false} turns it off.
+ * <p>
+ * The retry reuses a pooled browser: {@code BaseTest} releases the session back to the pool after
+ * timing failures, and evicts it only after infrastructure failures. Retried attempts are recorded
+ * in the run history as failures, so flaky tests stay visible to the {@link PrioritizedScheduler},
+ * and {@link #export()} writes them to {@code retries.json} and the report.
+ * <p>
+ * Installed on every test by {@link RetryTransformer}.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements IRetryAnalyzer), Encapsulation.
+ */
+public class RetryPolicy implements IRetryAnalyzer {
+    private static final String EXPORT_FILE = "retries.json";
+
+    private static final AtomicInteger suiteRetries = new AtomicInteger();
+    private static final AtomicBoolean budgetExhaustedLogged = new AtomicBoolean();
+    private static final Queue<Retry> retries = new ConcurrentLinkedQueue<>();
+
+    private final Map<FailureKind, Integer> attempts = new EnumMap<>(FailureKind.class);
+
+    /**
+     * One retried attempt.
+     *
+     * @param test    The test ID.
+     * @param attempt The number of the attempt that failed, starting at 1.
+     * @param kind    The failure kind.
+     * @param failure The failure's class and message.
+     * @param millis  The failed attempt's duration.
+     */
+    public record Retry(String test, int attempt, FailureKind kind, String failure, long millis) {
+    }
+
+    @Override
+    public boolean retry(ITestResult result) {
+        if (!ConfigurationManager.get(ConfigKeys.RETRY_ENABLED)) {
+            return false;
+        }
+        FailureKind kind = FailureKind.classify(result.getThrowable());
+        int max = switch (kind) {
+            case INFRA -> ConfigurationManager.get(ConfigKeys.RETRY_INFRA_MAX);
+            case TIMING -> ConfigurationManager.get(ConfigKeys.RETRY_TIMING_MAX);
+            case PRODUCT -> 0;
+        };
+        int used = attempts.getOrDefault(kind, 0);
+        if (used >= max) {
+            return false;
+        }
+        if (suiteRetries.incrementAndGet() > ConfigurationManager.get(ConfigKeys.RETRY_SUITE_BUDGET)) {
+            if (budgetExhaustedLogged.compareAndSet(false, true)) {
+                LoggerUtil.warn("Retry budget of " + ConfigurationManager.get(ConfigKeys.RETRY_SUITE_BUDGET)
+                        + " exhausted; further failures are final");
+            }
+            return false;
+        }
+        attempts.put(kind, used + 1);
+        int attempt = attempts.values().stream().mapToInt(Integer::intValue).sum();
+        Throwable failure = result.getThrowable();
+        Retry retry = new Retry(PrioritizedScheduler.testId(result.getMethod()), attempt, kind,
+                failure == null ? "" : failure.getClass().getSimpleName() + ": " + firstLine(failure.getMessage()),
+                result.getEndMillis() - result.getStartMillis());
+        retries.add(retry);
+        LoggerUtil.warn("Retrying " + retry.test() + " after " + kind + " failure (attempt " + attempt + "): "
+                + retry.failure());
+        return true;
+    }
+
+    /**
+     * Write the suite's retries to {@code retries.json} in {@link SuiteShard#outputDir()} and
+     * summarise them in the report's system info.
+     */
+    public static void export() {
+        List<Retry> all = new ArrayList<>(retries);
+        Map<FailureKind, Integer> byKind = new EnumMap<>(FailureKind.class);
+        long millis = 0;
+        for (Retry retry : all) {
+            byKind.merge(retry.kind(), 1, Integer::sum);
+            millis += retry.millis();
+        }
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("retries", all.size());
+        export.put("byKind", byKind);
+        export.put("millisInFailedAttempts", millis);
+        export.put("attempts", all);
+        try {
+            Path path = SuiteShard.outputDir().resolve(EXPORT_FILE);
+            Files.createDirectories(path.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), export);
+            LoggerUtil.info("Retries written to {}", path);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write retries", e);
+        }
+        ReportUtils.setSystemInfo("Retries", all.size() + " " + byKind + ", "
+                + String.format("%.1f", millis / 1000.0) + " s in failed attempts");
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,27 @@
+package org.automation.listeners;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * TestNG annotation transformer that installs {@link RetryPolicy} on every test that does not
+ * declare a retry analyzer of its own. Register it in the suite XML.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements IAnnotationTransformer).
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+
+    // raw Class and Constructor parameters are fixed by IAnnotationTransformer
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> declared = annotation.getRetryAnalyzerClass();
+        if (declared == null || declared == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(RetryPolicy.class);
+        }
+    }
+}
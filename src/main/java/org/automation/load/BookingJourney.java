@@ -0,0 +1,39 @@
+package org.automation.load;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.data.FlightBookingData;
+import org.automation.pages.FlightSearchPage;
+import org.automation.pages.HomePage;
+import org.automation.utils.SiteStandIn;
+import org.automation.utils.TestDataReader;
+import org.automation.utils.Utils;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The flight booking flow of {@code FlightBookingTest} as a load journey: open the home page, enter
+ * the route, search, wait for the results and select the first flight. Opens the {@link SiteStandIn} when one is
+ * configured, so the journey can run offline against a recorded archive.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements Journey), Encapsulation (private test data).
+ */
+public class BookingJourney implements Journey {
+    private final FlightBookingData data = TestDataReader.getTestData("flightBooking", FlightBookingData.class);
+    private final String url = SiteStandIn.localUrl(ConfigurationManager.get(ConfigKeys.BASE_URL));
+
+    @Override
+    public void run(WebDriver driver, StepTimer steps) {
+        steps.step("open home", () -> Utils.navigateTo(driver, url));
+        HomePage homePage = new HomePage(driver);
+        homePage.measure();
+        steps.step("enter route", () -> {
+            homePage.enterFromCity(data.fromCity());
+            homePage.enterToCity(data.toCity());
+            homePage.selectDepartureDate(data.departureDate());
+        });
+        steps.step("search", homePage::clickSearchButton);
+        FlightSearchPage searchPage = new FlightSearchPage(driver);
+        steps.step("results", searchPage::waitForResults);
+        steps.step("select flight", () -> searchPage.selectFlight(0));
+    }
+}
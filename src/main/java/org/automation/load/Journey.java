@@ -0,0 +1,23 @@
+package org.automation.load;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A user journey built from page objects, run repeatedly by the {@link LoadRunner}.
+ * <p>
+ * Implementations wrap each step in {@link StepTimer#step(String, Runnable)} so its latency is
+ * reported separately, and must be safe to run on several threads at once, each with its own driver.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (functional interface).
+ */
+@FunctionalInterface
+public interface Journey {
+
+    /**
+     * Run the journey once.
+     *
+     * @param driver The driver leased for this iteration.
+     * @param steps  The timer to run each step through.
+     */
+    void run(WebDriver driver, StepTimer steps);
+}
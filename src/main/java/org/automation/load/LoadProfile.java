@@ -0,0 +1,72 @@
+package org.automation.load;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.time.Duration;
+
+/**
+ * How a load run starts its journeys.
+ * <p>
+ * With a {@code ratePerMinute} of 0 the run is closed: every driver runs journeys back to back until
+ * {@code iterations} have started. Otherwise it is open: journeys start on schedule at the target
+ * rate, reached linearly over {@code ramp}, whether or not earlier ones have finished, so a slow
+ * site shows up as queueing for drivers rather than a quietly lower rate.
+ *
+ * @param journey       The journey name.
+ * @param iterations    How many journeys to run.
+ * @param ratePerMinute The target start rate, or 0 for a closed run.
+ * @param ramp          How long to take to reach the target rate.
+ * @param drivers       How many browsers run journeys at once.
+ */
+public record LoadProfile(String journey, int iterations, int ratePerMinute, Duration ramp, int drivers) {
+
+    public LoadProfile {
+        if (iterations < 1 || drivers < 1 || ratePerMinute < 0 || ramp.isNegative()) {
+            throw new IllegalArgumentException("Invalid load profile: " + iterations + " iteration(s), " + drivers
+                    + " driver(s), " + ratePerMinute + "/min, ramp " + ramp);
+        }
+    }
+
+    /**
+     * Read the profile from the {@code load.*} settings.
+     *
+     * @return The configured profile.
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(ConfigurationManager.get(ConfigKeys.LOAD_JOURNEY),
+                ConfigurationManager.get(ConfigKeys.LOAD_ITERATIONS),
+                ConfigurationManager.get(ConfigKeys.LOAD_RATE_PER_MINUTE),
+                ConfigurationManager.get(ConfigKeys.LOAD_RAMP),
+                ConfigurationManager.get(ConfigKeys.LOAD_DRIVERS));
+    }
+
+    /**
+     * Check whether journeys start on a schedule rather than as soon as a driver is free.
+     *
+     * @return True for an open (rate-driven) run.
+     */
+    public boolean isOpen() {
+        return ratePerMinute > 0;
+    }
+
+    /**
+     * Get when a journey should start, relative to the start of the run. During the ramp the rate
+     * grows linearly, so the n-th start falls where the area under the rate curve reaches n.
+     *
+     * @param iteration The journey's zero-based index.
+     * @return The offset in nanoseconds (0 for closed runs).
+     */
+    public long startOffsetNanos(int iteration) {
+        if (!isOpen()) {
+            return 0;
+        }
+        double perSecond = ratePerMinute / 60.0;
+        double rampSeconds = ramp.toMillis() / 1000.0;
+        double startedDuringRamp = perSecond * rampSeconds / 2;
+        double seconds = iteration < startedDuringRamp
+                ? Math.sqrt(2 * rampSeconds * iteration / perSecond)
+                : rampSeconds + (iteration - startedDuringRamp) / perSecond;
+        return (long) (seconds * 1_000_000_000L);
+    }
+}
@@ -0,0 +1,251 @@
+package org.automation.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.automation.base.PagePerformance;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.DriverFactory;
+import org.automation.utils.FailureKind;
+import org.automation.utils.InteractionTimer;
+import org.automation.utils.LatencyHistogram;
+import org.automation.utils.LoggerUtil;
+import org.automation.utils.ReportTest;
+import org.automation.utils.ReportUtils;
+import org.automation.utils.SuiteShard;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Runs a page-object {@link Journey} many times concurrently as a load test of the site.
+ * <p>
+ * Journeys start according to a {@link LoadProfile} (closed, or at a ramped rate) and run on
+ * virtual threads when the JVM has them (Java 21+), otherwise on one platform thread per driver.
+ * At most {@code load.drivers} run at once, each on a headless browser leased from the
+ * {@link DriverFactory} pool, which is sized to match. The run records latency per journey, per
+ * step and, for rate-driven runs, the wait for a free browser, then writes {@code load-summary.json}
+ * and an Extent report to {@link SuiteShard#outputDir()}. With {@code -Dstandin.mode=replay} the
+ * journeys run offline against the {@code SiteStandIn} archive:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=org.automation.load.LoadRunner -Dstandin.mode=replay \
+ *     -Dload.iterations=100 -Dload.ratePerMinute=60 -Dload.rampSeconds=30 -Dload.drivers=4
+ * </pre>
+ * <p>
+ * Demonstrates OOP principles: Abstraction (runs any Journey), Encapsulation (private run state).
+ */
+public class LoadRunner {
+    private static final String EXPORT_FILE = "load-summary.json";
+    private static final Map<String, Supplier<Journey>> JOURNEYS = Map.of("booking", BookingJourney::new);
+
+    private final LoadProfile profile;
+    private final Journey journey;
+    private final StepTimer steps = new StepTimer();
+    private final LatencyHistogram journeys = new LatencyHistogram();
+    private final LatencyHistogram driverWaits = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    /**
+     * Create a runner for one load run.
+     *
+     * @param profile The load profile.
+     * @param journey The journey to run.
+     */
+    public LoadRunner(LoadProfile profile, Journey journey) {
+        this.profile = profile;
+        this.journey = journey;
+    }
+
+    /**
+     * Run the configured journey with the configured profile.
+     *
+     * @param args Unused; configure with {@code -Dload.*} properties.
+     */
+    public static void main(String[] args) {
+        LoadProfile profile = LoadProfile.fromConfig();
+        Supplier<Journey> journey = JOURNEYS.get(profile.journey());
+        if (journey == null) {
+            throw new IllegalArgumentException("Unknown journey: " + profile.journey() + " (known: "
+                    + JOURNEYS.keySet() + ")");
+        }
+        configureDrivers(profile);
+        new LoadRunner(profile, journey.get()).run();
+    }
+
+    /**
+     * Run the journeys, shut down the browsers and export the results.
+     *
+     * @return The summary, as written to {@code load-summary.json}.
+     */
+    public Map<String, Object> run() {
+        LoggerUtil.info("Starting load run: {}", profile);
+        Semaphore drivers = new Semaphore(profile.drivers());
+        DriverFactory.prewarm();
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        ExecutorService executor = newExecutor(profile.drivers());
+        try {
+            for (int i = 0; i < profile.iterations(); i++) {
+                long scheduled = start + profile.startOffsetNanos(i);
+                for (long wait; (wait = scheduled - System.nanoTime()) > 0; ) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.execute(() -> iteration(drivers, scheduled));
+            }
+        } finally {
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        DriverFactory.shutdown();
+        Map<String, Object> summary = summary(startedAt, elapsedNanos);
+        export(summary);
+        return summary;
+    }
+
+    private void iteration(Semaphore drivers, long scheduled) {
+        drivers.acquireUninterruptibly();
+        try {
+            if (profile.isOpen()) {
+                driverWaits.record(System.nanoTime() - scheduled);
+            }
+            long start = System.nanoTime();
+            FailureKind failure = null;
+            try {
+                WebDriver driver = DriverFactory.getDriver();
+                journey.run(driver, steps);
+                journeys.record(System.nanoTime() - start);
+                completed.increment();
+            } catch (RuntimeException | AssertionError e) {
+                failure = FailureKind.classify(e);
+                failures.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                LoggerUtil.warn("Journey " + profile.journey() + " failed (" + failure + "): " + e.getMessage());
+            } finally {
+                // page measurements are attached to test reports; a load run only times its steps
+                PagePerformance.drain();
+                if (failure == FailureKind.INFRA) {
+                    DriverFactory.quitDriver();
+                } else {
+                    DriverFactory.releaseDriver();
+                }
+            }
+        } finally {
+            drivers.release();
+        }
+    }
+
+    private Map<String, Object> summary(Instant startedAt, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1_000_000_000.0;
+        long failed = failures.values().stream().mapToLong(LongAdder::sum).sum();
+        Map<String, Long> failureCounts = new LinkedHashMap<>();
+        failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("journey", profile.journey());
+        settings.put("iterations", profile.iterations());
+        settings.put("ratePerMinute", profile.ratePerMinute());
+        settings.put("rampSeconds", profile.ramp().toSeconds());
+        settings.put("drivers", profile.drivers());
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("profile", settings);
+        summary.put("startedAt", startedAt.toString());
+        summary.put("elapsedSeconds", Math.round(elapsedSeconds * 100) / 100.0);
+        summary.put("completed", completed.sum());
+        summary.put("failed", failed);
+        summary.put("throughputPerMinute", Math.round(completed.sum() * 60 / elapsedSeconds * 100) / 100.0);
+        summary.put("journey", journeys.summary());
+        if (profile.isOpen()) {
+            summary.put("driverWait", driverWaits.summary());
+        }
+        summary.put("steps", steps.summaries());
+        summary.put("failures", failureCounts);
+        return summary;
+    }
+
+    private void export(Map<String, Object> summary) {
+        try {
+            Path path = SuiteShard.outputDir().resolve(EXPORT_FILE);
+            Files.createDirectories(path.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), summary);
+            LoggerUtil.info("Load summary written to {}", path);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write load summary", e);
+        }
+        ReportTest section = ReportUtils.createTest("Load run: " + profile.journey());
+        section.info(profile.iterations() + " journey(s) on " + profile.drivers() + " driver(s), "
+                + (profile.isOpen() ? profile.ratePerMinute() + "/min after a " + profile.ramp().toSeconds() + " s ramp"
+                : "back to back") + ": " + summary.get("completed") + " completed, " + summary.get("failed")
+                + " failed in " + summary.get("elapsedSeconds") + " s (" + summary.get("throughputPerMinute") + "/min)");
+        section.info(table(summary));
+        section.end();
+        InteractionTimer.export();
+        ReportUtils.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String table(Map<String, Object> summary) {
+        Map<String, Map<String, Object>> rows = new LinkedHashMap<>();
+        rows.put("journey", (Map<String, Object>) summary.get("journey"));
+        if (summary.containsKey("driverWait")) {
+            rows.put("wait for driver", (Map<String, Object>) summary.get("driverWait"));
+        }
+        rows.putAll((Map<String, Map<String, Object>>) summary.get("steps"));
+        StringBuilder html = new StringBuilder("<table class='table table-sm'><tr><th>Step</th><th>Count</th>")
+                .append("<th>Errors</th><th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>Max ms</th></tr>");
+        rows.forEach((name, row) -> html.append("<tr><td>").append(name).append("</td><td>").append(row.get("count"))
+                .append("</td><td>").append(row.getOrDefault("errors", "")).append("</td><td>").append(row.get("p50Ms"))
+                .append("</td><td>").append(row.get("p95Ms")).append("</td><td>").append(row.get("p99Ms"))
+                .append("</td><td>").append(row.get("maxMs")).append("</td></tr>"));
+        return html.append("</table>").toString();
+    }
+
+    /**
+     * Size the driver pool to the profile and run browsers headless unless {@code load.headless=false}.
+     */
+    private static void configureDrivers(LoadProfile profile) {
+        System.setProperty("pool.maxSize", String.valueOf(profile.drivers()));
+        if (ConfigurationManager.get(ConfigKeys.LOAD_HEADLESS)) {
+            System.setProperty(ConfigKeys.DRIVER_HEADLESS.getName(), "true");
+        }
+        ConfigurationManager.reload();
+    }
+
+    /**
+     * Virtual threads are looked up reflectively, since the framework still builds for Java 17.
+     */
+    private static ExecutorService newExecutor(int drivers) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            LoggerUtil.info("Running journeys on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            LoggerUtil.info("Virtual threads unavailable; running journeys on {} platform threads", drivers);
+            return Executors.newFixedThreadPool(drivers);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                LoggerUtil.info("Waiting for running journeys to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
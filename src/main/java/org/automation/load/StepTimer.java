@@ -0,0 +1,58 @@
+package org.automation.load;
+
+import org.automation.utils.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times the steps of a {@link Journey} across all iterations of a load run. Steps keep the order in
+ * which they first ran, so the summary reads like the journey.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private histograms).
+ */
+public final class StepTimer {
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Run one step and record how long it took. A failing step is counted as an error and its
+     * exception is rethrown, ending the iteration.
+     *
+     * @param name   The step name.
+     * @param action The step.
+     */
+    public void step(String name, Runnable action) {
+        LatencyHistogram histogram = histogram(name);
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } catch (RuntimeException | AssertionError e) {
+            errors.computeIfAbsent(name, k -> new LongAdder()).increment();
+            throw e;
+        }
+        histogram.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Get the latency summary and error count of every step, in journey order.
+     *
+     * @return Step name to summary.
+     */
+    synchronized Map<String, Map<String, Object>> summaries() {
+        Map<String, Map<String, Object>> summaries = new LinkedHashMap<>();
+        latencies.forEach((name, histogram) -> {
+            Map<String, Object> summary = histogram.summary();
+            LongAdder failed = errors.get(name);
+            summary.put("errors", failed == null ? 0 : failed.sum());
+            summaries.put(name, summary);
+        });
+        return summaries;
+    }
+
+    private synchronized LatencyHistogram histogram(String name) {
+        return latencies.computeIfAbsent(name, k -> new LatencyHistogram());
+    }
+}
@@ -0,0 +1,13 @@
+package org.automation.pages;
+
+/**
+ * One flight card read from the search results.
+ *
+ * @param index         The position of the card in the result list.
+ * @param airline       The airline name.
+ * @param departureTime The departure time as shown.
+ * @param arrivalTime   The arrival time as shown.
+ * @param price         The fare in whole currency units, or -1 if it could not be read.
+ */
+public record FlightResult(int index, String airline, String departureTime, String arrivalTime, int price) {
+}
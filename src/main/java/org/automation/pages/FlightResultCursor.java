@@ -0,0 +1,120 @@
+package org.automation.pages;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.automation.utils.LoggerUtil;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Incremental, windowed cursor over the flight result cards.
+ * <p>
+ * Cards are read {@code results.windowSize} at a time with one script call per window, which
+ * extracts airline, times and price for every card in the window instead of a {@code getText}
+ * round trip per field. When the window runs past the cards loaded so far, the same call scrolls the
+ * last card into view and keeps waiting while the page lazy-loads more, until the window is full.
+ * The results end only when {@code results.loadTimeoutMillis} passes without a new card, so a cursor
+ * opened before the first card renders waits for it. No remote element reference is created for
+ * cards that are never selected.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private window buffer), Iterator pattern.
+ */
+public class FlightResultCursor implements Iterator<FlightResult> {
+    private static final String WINDOW_SCRIPT =
+            "var cardSelector = arguments[0], fields = arguments[1], start = arguments[2], count = arguments[3];"
+            + "var timeout = arguments[4], done = arguments[arguments.length - 1];"
+            + "function text(card, selector) {"
+            + "  var node = card.querySelector(selector); return node ? node.textContent.trim() : '';"
+            + "}"
+            + "function read() {"
+            + "  var cards = document.querySelectorAll(cardSelector), rows = [];"
+            + "  for (var i = start; i < Math.min(cards.length, start + count); i++) {"
+            + "    rows.push({airline: text(cards[i], fields.airline), departure: text(cards[i], fields.departure),"
+            + "      arrival: text(cards[i], fields.arrival), price: text(cards[i], fields.price)});"
+            + "  }"
+            + "  return {rows: rows, loaded: cards.length};"
+            + "}"
+            + "var limit = Date.now() + arguments[5], deadline = Date.now() + timeout, loaded = -1;"
+            + "(function poll() {"
+            + "  var current = read();"
+            + "  if (current.rows.length === count) { done(current); return; }"
+            + "  if (current.loaded > loaded) {"
+            + "    loaded = current.loaded; deadline = Date.now() + timeout;"
+            + "    if (loaded > 0) { document.querySelectorAll(cardSelector)[loaded - 1].scrollIntoView({block: 'end'}); }"
+            + "  }"
+            + "  if (Date.now() > deadline) { current.stalled = true; done(current); return; }"
+            + "  if (Date.now() > limit && current.rows.length > 0) { done(current); return; }"
+            + "  setTimeout(poll, 50);"
+            + "})();";
+
+    private final WebDriver driver;
+    private final String cardSelector;
+    private final Map<String, String> fieldSelectors;
+    private final int windowSize;
+    private final long loadTimeoutMillis;
+    private final long callLimitMillis;
+    private final Deque<FlightResult> window = new ArrayDeque<>();
+    private int nextIndex;
+    private boolean exhausted;
+
+    /**
+     * Constructor to create a cursor positioned before the first card.
+     *
+     * @param driver         The WebDriver instance.
+     * @param cardSelector   The CSS selector matching one result card.
+     * @param fieldSelectors CSS selectors within a card for "airline", "departure", "arrival" and "price".
+     */
+    public FlightResultCursor(WebDriver driver, String cardSelector, Map<String, String> fieldSelectors) {
+        this.driver = driver;
+        this.cardSelector = cardSelector;
+        this.fieldSelectors = fieldSelectors;
+        this.windowSize = ConfigurationManager.get(ConfigKeys.RESULTS_WINDOW_SIZE);
+        this.loadTimeoutMillis = ConfigurationManager.get(ConfigKeys.RESULTS_LOAD_TIMEOUT_MILLIS);
+        // one call returns a partial window before the driver's script timeout (wait timeout + 5 s)
+        this.callLimitMillis = ConfigurationManager.get(ConfigKeys.WAIT_TIMEOUT).toMillis();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (window.isEmpty() && !exhausted) {
+            fetchWindow();
+        }
+        return !window.isEmpty();
+    }
+
+    @Override
+    public FlightResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return window.poll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fetchWindow() {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                WINDOW_SCRIPT, cardSelector, fieldSelectors, nextIndex, windowSize, loadTimeoutMillis,
+                callLimitMillis);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) result.get("rows");
+        for (Map<String, Object> row : rows) {
+            window.add(new FlightResult(nextIndex++, (String) row.get("airline"), (String) row.get("departure"),
+                    (String) row.get("arrival"), parsePrice((String) row.get("price"))));
+        }
+        if (Boolean.TRUE.equals(result.get("stalled"))) {
+            exhausted = true;
+        }
+        LoggerUtil.debug("Fetched result window ending at card {}", nextIndex);
+    }
+
+    private static int parsePrice(String text) {
+        String digits = text == null ? "" : text.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? -1 : Integer.parseInt(digits);
+    }
+}
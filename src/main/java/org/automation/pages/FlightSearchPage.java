@@ -3,21 +3,39 @@ package org.automation.pages;
 import org.automation.base.BasePage;
 import org.automation.utils.Utils;
 import org.automation.utils.LoggerUtil;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Page Object for the MakeMyTrip flight search page, including calendar and table handling.
  * <p>
+ * Large result lists should be read through {@link #results()}, which streams cards in windows
+ * instead of materializing a remote reference for every card.
+ * <p>
  * Demonstrates OOP principles: Inheritance (extends BasePage), Encapsulation (private fields).
  */
 public class FlightSearchPage extends BasePage {
+    private static final String CARD_SELECTOR = "div[class='listingCard']";
+    private static final Map<String, String> CARD_FIELDS = Map.of(
+            "airline", ".airlineName",
+            "departure", ".timeInfoLeft .flightTimeInfo",
+            "arrival", ".timeInfoRight .flightTimeInfo",
+            "price", ".clusterViewPrice");
+
     @FindBy(xpath = "//div[@class='listingCard']")
     private List<WebElement> flightResults;
 
+    @FindBy(xpath = "//div[@class='listingCard']")
+    private WebElement firstResult;
+
     /**
      * Constructor to initialize page elements.
      *
@@ -27,19 +45,91 @@ public class FlightSearchPage extends BasePage {
         super(driver);
     }
 
+    /**
+     * Waits for the first result card after a search, then measures the results page.
+     */
+    public void waitForResults() {
+        Utils.waitForElementVisible(driver, firstResult);
+        measure();
+    }
+
     /**
      * Selects a flight from the results table by index.
      *
      * @param index The index of the flight to select.
      */
     public void selectFlight(int index) {
-        if (index < flightResults.size()) {
-            Utils.click(driver, flightResults.get(index));
-            LoggerUtil.info("Selected flight at index: " + index);
+        // one lookup for both the bounds check and the click; the list field looks up again on every call
+        List<WebElement> results = List.copyOf(flightResults);
+        if (index < results.size()) {
+            Utils.click(driver, results.get(index));
+            LoggerUtil.info("Selected flight at index: {}", index);
         } else {
             LoggerUtil.error("Flight index " + index + " is out of bounds", null);
             throw new IllegalArgumentException("Flight index out of bounds");
         }
     }
-}
 
+    /**
+     * Selects a flight previously read through {@link #results()}, resolving only that one card.
+     *
+     * @param flight The flight to select.
+     */
+    public void selectFlight(FlightResult flight) {
+        WebElement card = (WebElement) ((JavascriptExecutor) driver).executeScript(
+                "return document.querySelectorAll(arguments[0])[arguments[1]] || null;", CARD_SELECTOR, flight.index());
+        if (card == null) {
+            LoggerUtil.error("Flight index " + flight.index() + " is out of bounds", null);
+            throw new IllegalArgumentException("Flight index out of bounds");
+        }
+        Utils.click(driver, card);
+        LoggerUtil.info("Selected flight: {}", flight);
+    }
+
+    /**
+     * Opens a cursor over the search results that reads cards in windows and scroll-loads more on demand.
+     *
+     * @return A lazy iterator over the results, in page order.
+     */
+    public Iterator<FlightResult> results() {
+        return new FlightResultCursor(driver, CARD_SELECTOR, CARD_FIELDS);
+    }
+
+    /**
+     * Finds the first flight matching the condition, reading no further than needed.
+     *
+     * @param condition The condition to match.
+     * @return The first matching flight, if any.
+     */
+    public Optional<FlightResult> findFirst(Predicate<FlightResult> condition) {
+        Iterator<FlightResult> cursor = results();
+        while (cursor.hasNext()) {
+            FlightResult flight = cursor.next();
+            if (condition.test(flight)) {
+                return Optional.of(flight);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the cheapest flight at or under a price among the first {@code scanLimit} results, so
+     * long lists are not read to the end.
+     *
+     * @param maxPrice  The highest acceptable fare.
+     * @param scanLimit The maximum number of results to read.
+     * @return The cheapest qualifying flight, if any.
+     */
+    public Optional<FlightResult> cheapestUnder(int maxPrice, int scanLimit) {
+        Iterator<FlightResult> cursor = results();
+        FlightResult cheapest = null;
+        for (int read = 0; read < scanLimit && cursor.hasNext(); read++) {
+            FlightResult flight = cursor.next();
+            if (flight.price() >= 0 && flight.price() <= maxPrice
+                    && (cheapest == null || flight.price() < cheapest.price())) {
+                cheapest = flight;
+            }
+        }
+        return Optional.ofNullable(cheapest);
+    }
+}
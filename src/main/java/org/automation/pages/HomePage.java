@@ -60,6 +60,23 @@ public class HomePage extends BasePage {
         // Additional logic for calendar selection can be added here
     }
 
+    /**
+     * Fills the search form and submits it. The city fields drive an autocomplete and need real
+     * key events; the date and search clicks run together in one script call.
+     *
+     * @param fromCityName The departure city.
+     * @param toCityName   The destination city.
+     * @param date         The date in format "dd MMM yyyy" (e.g., "15 Jun 2025").
+     */
+    public void searchFlights(String fromCityName, String toCityName, String date) {
+        // As in selectDepartureDate, picking the calendar day is not implemented yet
+        batch().nativeFill(fromCity, fromCityName)
+                .nativeFill(toCity, toCityName)
+                .click(departureDate)
+                .click(searchButton)
+                .run();
+    }
+
     /**
      * Clicks the Search button to submit the flight search.
      */
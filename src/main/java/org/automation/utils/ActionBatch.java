@@ -0,0 +1,218 @@
+package org.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects a sequence of form fills, clicks and reads and runs them with as few WebDriver round
+ * trips as possible.
+ * <p>
+ * Consecutive script-safe steps ({@link #fill}, {@link #click}, {@link #read}) run in one
+ * {@code executeAsyncScript} call that also waits in the page for each element to be visible.
+ * Steps that need real input events, such as autocomplete fields, are added with
+ * {@link #nativeFill} / {@link #nativeClick} and run through {@link Utils} between script groups.
+ * A script group whose elements are not in the DOM yet falls back to running step by step natively.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private step list), Builder pattern.
+ */
+public class ActionBatch {
+    private static final String BATCH_SCRIPT =
+            "var steps = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];"
+            + "var elements = Array.prototype.slice.call(arguments, 2, 2 + steps.length);"
+            + "var reads = [], i = 0, deadline = Date.now() + timeout;"
+            + "function visible(el) {"
+            + "  var rect = el.getBoundingClientRect(), style = window.getComputedStyle(el);"
+            + "  return el.isConnected && rect.width > 0 && rect.height > 0 && style.visibility !== 'hidden';"
+            + "}"
+            + "function setValue(el, value) {"
+            + "  var desc = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');"
+            + "  if (desc && desc.set) { desc.set.call(el, value); } else { el.value = value; }"
+            + "  el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "function next() {"
+            + "  while (i < steps.length) {"
+            + "    var step = steps[i], el = elements[i];"
+            + "    if (!visible(el)) {"
+            + "      if (Date.now() > deadline) { done({error: 'element not visible', step: i}); return; }"
+            + "      requestAnimationFrame(next); return;"
+            + "    }"
+            + "    if (step.op === 'fill') { el.focus(); setValue(el, step.value); }"
+            + "    else if (step.op === 'click') { el.click(); }"
+            + "    else { reads.push(('value' in el && el.tagName !== 'BUTTON') ? String(el.value) : el.textContent.trim()); }"
+            + "    i++;"
+            + "  }"
+            + "  done({reads: reads});"
+            + "}"
+            + "next();";
+
+    private final WebDriver driver;
+    private final List<Step> steps = new ArrayList<>();
+
+    private ActionBatch(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Start a new batch on the given driver.
+     *
+     * @param driver The WebDriver instance.
+     * @return An empty batch.
+     */
+    public static ActionBatch on(WebDriver driver) {
+        return new ActionBatch(driver);
+    }
+
+    /**
+     * Set an input's value in the page and fire input/change events.
+     *
+     * @param element The input element.
+     * @param text    The text to set.
+     * @return This batch, for chaining.
+     */
+    public ActionBatch fill(WebElement element, String text) {
+        steps.add(new Step("fill", element, text, false));
+        return this;
+    }
+
+    /**
+     * Type into an input with real key events, for fields that react to keystrokes.
+     *
+     * @param element The input element.
+     * @param text    The text to type.
+     * @return This batch, for chaining.
+     */
+    public ActionBatch nativeFill(WebElement element, String text) {
+        steps.add(new Step("fill", element, text, true));
+        return this;
+    }
+
+    /**
+     * Click an element from script, like {@link Utils#jsClick(WebDriver, WebElement)}.
+     *
+     * @param element The element to click.
+     * @return This batch, for chaining.
+     */
+    public ActionBatch click(WebElement element) {
+        steps.add(new Step("click", element, null, false));
+        return this;
+    }
+
+    /**
+     * Click an element with a real mouse event.
+     *
+     * @param element The element to click.
+     * @return This batch, for chaining.
+     */
+    public ActionBatch nativeClick(WebElement element) {
+        steps.add(new Step("click", element, null, true));
+        return this;
+    }
+
+    /**
+     * Read an element's value (inputs) or trimmed text content.
+     *
+     * @param element The element to read.
+     * @return This batch, for chaining.
+     */
+    public ActionBatch read(WebElement element) {
+        steps.add(new Step("read", element, null, false));
+        return this;
+    }
+
+    /**
+     * Run every step in order.
+     *
+     * @return The results of the {@link #read} steps, in order.
+     */
+    public List<String> run() {
+        List<String> reads = new ArrayList<>();
+        long before = CommandCounter.current();
+        int start = 0;
+        while (start < steps.size()) {
+            if (steps.get(start).nativeInput) {
+                runNatively(steps.get(start), reads);
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < steps.size() && !steps.get(end).nativeInput) {
+                end++;
+            }
+            runGroup(steps.subList(start, end), reads);
+            start = end;
+        }
+        LoggerUtil.info("Ran batch of {} step(s) in {} WebDriver command(s)", steps.size(),
+                CommandCounter.current() - before);
+        return reads;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runGroup(List<Step> group, List<String> reads) {
+        List<Map<String, String>> descriptors = new ArrayList<>();
+        Object[] args = new Object[group.size() + 2];
+        for (int i = 0; i < group.size(); i++) {
+            Step step = group.get(i);
+            descriptors.add(step.value == null ? Map.of("op", step.op) : Map.of("op", step.op, "value", step.value));
+            args[i + 2] = step.element;
+        }
+        args[0] = descriptors;
+        args[1] = WaitEngine.of(driver).getTimeout().toMillis();
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(BATCH_SCRIPT, args);
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            LoggerUtil.debug("Batch elements not resolvable yet, running natively: {}", e.getClass().getSimpleName());
+            for (Step step : group) {
+                runNatively(step, reads);
+            }
+            return;
+        }
+        if (result.containsKey("error")) {
+            throw new WebDriverException("Batched step " + result.get("step") + " failed: " + result.get("error"));
+        }
+        for (Object read : (List<Object>) result.get("reads")) {
+            reads.add(String.valueOf(read));
+        }
+    }
+
+    private void runNatively(Step step, List<String> reads) {
+        switch (step.op) {
+            case "fill":
+                Utils.sendKeys(driver, step.element, step.value);
+                break;
+            case "click":
+                Utils.click(driver, step.element);
+                break;
+            default:
+                String value = step.element.getDomProperty("value");
+                reads.add(value != null && !"button".equalsIgnoreCase(step.element.getTagName())
+                        ? value : Utils.getText(driver, step.element));
+        }
+    }
+
+    /**
+     * One queued action.
+     */
+    private static final class Step {
+        private final String op;
+        private final WebElement element;
+        private final String value;
+        private final boolean nativeInput;
+
+        private Step(String op, WebElement element, String value, boolean nativeInput) {
+            this.op = op;
+            this.element = element;
+            this.value = value;
+            this.nativeInput = nativeInput;
+        }
+    }
+}
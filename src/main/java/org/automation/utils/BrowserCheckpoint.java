@@ -0,0 +1,279 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Named snapshots of browser state, so tests can skip the setup steps that lead to a known state.
+ * <p>
+ * {@link #capture} saves the current URL, the cookies visible to it and the origin's
+ * {@code localStorage} and {@code sessionStorage}, in memory and as JSON under
+ * {@code <history.dir>/checkpoints}, so later runs can reuse it too. {@link #restore} loads a
+ * checkpoint into any driver (pooled drivers come back with their state cleared): it opens the
+ * cheap {@code checkpoint.landingPath} on the checkpoint's origin, sets storage and script-visible
+ * cookies in one script (HttpOnly cookies through WebDriver), then opens the saved URL.
+ * <p>
+ * Checkpoints expire after {@code checkpoint.ttlSeconds}, and only apply to the browser and base
+ * URL they were captured with. {@code checkpoint.enabled=false} makes every restore miss, so the
+ * setup steps always run.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private storage and scripts), Memento pattern.
+ */
+public class BrowserCheckpoint {
+    private static final String DIRECTORY = "checkpoints";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Map<String, State> memory = new ConcurrentHashMap<>();
+    private static final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    private static final String CAPTURE_SCRIPT =
+            "function dump(storage) {"
+            + "  var items = {};"
+            + "  try { for (var i = 0; i < storage.length; i++) { var key = storage.key(i); items[key] = storage.getItem(key); } }"
+            + "  catch (e) {}"
+            + "  return items;"
+            + "}"
+            + "return {url: location.href, local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+
+    private static final String RESTORE_SCRIPT =
+            "var local = arguments[0], session = arguments[1], cookies = arguments[2];"
+            + "Object.keys(local).forEach(function (key) { window.localStorage.setItem(key, local[key]); });"
+            + "Object.keys(session).forEach(function (key) { window.sessionStorage.setItem(key, session[key]); });"
+            + "cookies.forEach(function (cookie) { document.cookie = cookie; });";
+
+    private BrowserCheckpoint() {
+    }
+
+    /**
+     * A saved browser state.
+     *
+     * @param name             The checkpoint name.
+     * @param scope            The browser and base URL it was captured with.
+     * @param url              The URL the browser was on.
+     * @param cookies          The cookies visible to that URL.
+     * @param localStorage     The origin's local storage.
+     * @param sessionStorage   The tab's session storage.
+     * @param capturedAtMillis When it was captured, in epoch milliseconds.
+     */
+    public record State(String name, String scope, String url, List<StoredCookie> cookies,
+                        Map<String, String> localStorage, Map<String, String> sessionStorage,
+                        long capturedAtMillis) {
+    }
+
+    /**
+     * A cookie in a form that survives JSON.
+     *
+     * @param name         The cookie name.
+     * @param value        The cookie value.
+     * @param domain       The domain; a leading dot marks a domain cookie, otherwise it is host-only.
+     * @param path         The path.
+     * @param expiryMillis The expiry in epoch milliseconds, or null for a session cookie.
+     * @param secure       Whether the cookie is HTTPS only.
+     * @param httpOnly     Whether the cookie is hidden from scripts.
+     * @param sameSite     The SameSite attribute, or null.
+     */
+    public record StoredCookie(String name, String value, String domain, String path, Long expiryMillis,
+                               boolean secure, boolean httpOnly, String sameSite) {
+    }
+
+    /**
+     * Bring a driver to a named state: restore the checkpoint if there is a valid one, otherwise run
+     * the setup steps and capture the result. A saved checkpoint is restored without locking, so
+     * parallel tests restore it concurrently; only building a missing one is serialized per name, and
+     * threads that arrive while it is being built wait for it and then restore it.
+     *
+     * @param driver The driver.
+     * @param name   The checkpoint name.
+     * @param setup  The steps that lead to the state from a fresh browser.
+     * @return True if the checkpoint was restored, false if the setup steps ran.
+     */
+    public static boolean reach(WebDriver driver, String name, Runnable setup) {
+        if (restore(driver, name)) {
+            return true;
+        }
+        ReentrantLock lock = locks.computeIfAbsent(name, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            // another thread may have built it while this one waited
+            if (find(name) == null) {
+                setup.run();
+                capture(driver, name);
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (restore(driver, name)) {
+            return true;
+        }
+        setup.run();
+        return false;
+    }
+
+    /**
+     * Save the driver's current state under a name, replacing any earlier checkpoint of that name.
+     *
+     * @param driver The driver.
+     * @param name   The checkpoint name.
+     * @return The saved state.
+     */
+    public static State capture(WebDriver driver, String name) {
+        Map<?, ?> page = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        List<StoredCookie> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                    cookie.getExpiry() == null ? null : cookie.getExpiry().getTime(), cookie.isSecure(),
+                    cookie.isHttpOnly(), cookie.getSameSite()));
+        }
+        State state = new State(name, scope(), String.valueOf(page.get("url")), cookies,
+                strings(page.get("local")), strings(page.get("session")), System.currentTimeMillis());
+        memory.put(name, state);
+        try {
+            Path file = file(name);
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            mapper.writeValue(temp.toFile(), state);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to save checkpoint " + name, e);
+        }
+        LoggerUtil.info("Captured checkpoint '" + name + "' at " + state.url() + " (" + cookies.size() + " cookie(s), "
+                + state.localStorage().size() + " local and " + state.sessionStorage().size() + " session item(s))");
+        return state;
+    }
+
+    /**
+     * Load a named checkpoint into a driver.
+     *
+     * @param driver The driver, which should have no state of its own for the checkpoint's site.
+     * @param name   The checkpoint name.
+     * @return True if the checkpoint was restored, false if there is no valid one.
+     */
+    public static boolean restore(WebDriver driver, String name) {
+        State state = find(name);
+        if (state == null) {
+            return false;
+        }
+        URI url = URI.create(state.url());
+        Utils.navigateTo(driver, url.getScheme() + "://" + url.getRawAuthority()
+                + ConfigurationManager.get(ConfigKeys.CHECKPOINT_LANDING_PATH));
+        long now = System.currentTimeMillis();
+        List<String> scriptCookies = new ArrayList<>();
+        for (StoredCookie cookie : state.cookies()) {
+            if (cookie.expiryMillis() != null && cookie.expiryMillis() <= now) {
+                continue;
+            }
+            if (cookie.httpOnly()) {
+                driver.manage().addCookie(new Cookie.Builder(cookie.name(), cookie.value())
+                        .domain(cookie.domain()).path(cookie.path())
+                        .expiresOn(cookie.expiryMillis() == null ? null : new Date(cookie.expiryMillis()))
+                        .isSecure(cookie.secure()).isHttpOnly(true).sameSite(cookie.sameSite()).build());
+            } else {
+                scriptCookies.add(documentCookie(cookie, now));
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, state.localStorage(), state.sessionStorage(),
+                scriptCookies);
+        Utils.navigateTo(driver, state.url());
+        LoggerUtil.info("Restored checkpoint '" + name + "' at " + state.url());
+        return true;
+    }
+
+    /**
+     * Forget a checkpoint, in memory and on disk.
+     *
+     * @param name The checkpoint name.
+     */
+    public static void invalidate(String name) {
+        memory.remove(name);
+        try {
+            Files.deleteIfExists(file(name));
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to delete checkpoint " + name, e);
+        }
+    }
+
+    private static State find(String name) {
+        if (!ConfigurationManager.get(ConfigKeys.CHECKPOINT_ENABLED)) {
+            return null;
+        }
+        State state = memory.get(name);
+        if (state == null) {
+            Path file = file(name);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try {
+                state = mapper.readValue(file.toFile(), State.class);
+            } catch (IOException e) {
+                LoggerUtil.warn("Ignoring unreadable checkpoint " + file + ": " + e.getMessage());
+                return null;
+            }
+        }
+        long ageMillis = System.currentTimeMillis() - state.capturedAtMillis();
+        if (ageMillis > ConfigurationManager.get(ConfigKeys.CHECKPOINT_TTL).toMillis() || !scope().equals(state.scope())) {
+            LoggerUtil.info("Checkpoint '" + name + "' is expired or from another browser or site; rebuilding it");
+            invalidate(name);
+            return null;
+        }
+        memory.putIfAbsent(name, state);
+        return state;
+    }
+
+    /**
+     * A {@code document.cookie} assignment for a cookie. Host-only cookies get no domain attribute,
+     * since setting one would widen them to subdomains.
+     */
+    private static String documentCookie(StoredCookie cookie, long now) {
+        StringBuilder assignment = new StringBuilder(cookie.name()).append('=').append(cookie.value())
+                .append("; path=").append(cookie.path() == null ? "/" : cookie.path());
+        if (cookie.domain() != null && cookie.domain().startsWith(".")) {
+            assignment.append("; domain=").append(cookie.domain());
+        }
+        if (cookie.expiryMillis() != null) {
+            assignment.append("; max-age=").append((cookie.expiryMillis() - now) / 1000);
+        }
+        if (cookie.secure()) {
+            assignment.append("; secure");
+        }
+        if (cookie.sameSite() != null) {
+            assignment.append("; samesite=").append(cookie.sameSite());
+        }
+        return assignment.toString();
+    }
+
+    private static String scope() {
+        return ConfigurationManager.get(ConfigKeys.BROWSER) + " "
+                + SiteStandIn.localUrl(ConfigurationManager.get(ConfigKeys.BASE_URL));
+    }
+
+    private static Map<String, String> strings(Object items) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        if (items instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> strings.put(String.valueOf(key), String.valueOf(value)));
+        }
+        return strings;
+    }
+
+    private static Path file(String name) {
+        String safe = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return HostCapacity.historyDir().resolve(DIRECTORY)
+                .resolve(safe + "-" + Integer.toHexString(name.hashCode()) + ".json");
+    }
+}
@@ -0,0 +1,247 @@
+package org.automation.utils;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.CapabilityType;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Performance profile applied to every browser the {@link DriverFactory} launches, driven from
+ * {@code config.properties}:
+ * <ul>
+ *     <li>{@code driver.headless} and {@code driver.windowSize} (e.g. {@code 1366x768}) replace the
+ *     maximized, headed window;</li>
+ *     <li>{@code driver.pageLoadStrategy} ({@code normal}, {@code eager}, {@code none});</li>
+ *     <li>{@code driver.blockedUrls} is a comma-separated list of URL patterns ({@code *} wildcards)
+ *     blocked through CDP {@code Network.setBlockedURLs} on Chrome. Firefox has no CDP; there, image
+ *     patterns ({@code *.png}, {@code *.jpg}, ...) block all images through preferences and other
+ *     patterns are ignored;</li>
+ *     <li>{@code driver.diskCacheDir} gives the browsers a persistent HTTP cache. Each live session
+ *     gets its own slot directory, which later sessions reuse, so the cache stays warm across
+ *     recycled sessions and runs without two browsers writing to one cache;</li>
+ *     <li>{@code standin.mode} routes the browsers through the local {@link SiteStandIn} proxy;</li>
+ *     <li>{@code grid.endpoints} creates the sessions on remote endpoints through the {@link GridRouter}
+ *     instead of launching local browsers.</li>
+ * </ul>
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private static helpers), Utility pattern.
+ */
+public class BrowserProfile {
+    private static final Queue<Integer> freeCacheSlots = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger cacheSlots = new AtomicInteger();
+    private static final Map<WebDriver, Integer> slotByDriver = new ConcurrentHashMap<>();
+    private static final Pattern IMAGE_PATTERN =
+            Pattern.compile("(?i).*\\.(png|jpe?g|gif|webp|avif|svg|ico|bmp)\\*?");
+    private static final AtomicBoolean firefoxPatternsReported = new AtomicBoolean();
+
+    /**
+     * Get the name of the active profile, used to label timings.
+     *
+     * @return The profile name.
+     */
+    public static String name() {
+        return ConfigurationManager.get(ConfigKeys.DRIVER_PROFILE);
+    }
+
+    /**
+     * Build the browser options for the configured profile. Per-session settings are added at launch.
+     *
+     * @param browser The browser name.
+     * @return The browser options.
+     */
+    public static Capabilities createOptions(String browser) {
+        boolean headless = ConfigurationManager.get(ConfigKeys.DRIVER_HEADLESS);
+        String windowSize = ConfigurationManager.get(ConfigKeys.DRIVER_WINDOW_SIZE);
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(
+                ConfigurationManager.get(ConfigKeys.DRIVER_PAGE_LOAD_STRATEGY));
+        switch (browser.toLowerCase()) {
+            case "chrome": {
+                ChromeOptions options = new ChromeOptions();
+                options.setPageLoadStrategy(strategy);
+                if (headless) {
+                    options.addArguments("--headless=new");
+                }
+                if (!windowSize.isBlank()) {
+                    Dimension size = parseSize(windowSize);
+                    options.addArguments("--window-size=" + size.getWidth() + "," + size.getHeight());
+                }
+                routeThroughStandIn(options);
+                return options;
+            }
+            case "firefox": {
+                FirefoxOptions options = new FirefoxOptions();
+                options.setPageLoadStrategy(strategy);
+                if (headless) {
+                    options.addArguments("-headless");
+                }
+                if (!windowSize.isBlank()) {
+                    Dimension size = parseSize(windowSize);
+                    options.addArguments("--width=" + size.getWidth(), "--height=" + size.getHeight());
+                }
+                blockImagesOnFirefox(options);
+                routeThroughStandIn(options);
+                return options;
+            }
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    /**
+     * Launch a browser with the profile's options plus this session's cache slot, then apply the
+     * settings that can only be made on a running browser.
+     *
+     * @param options The options from {@link #createOptions(String)}.
+     * @return The new WebDriver instance.
+     */
+    public static WebDriver launch(Capabilities options) {
+        if (GridRouter.isEnabled()) {
+            WebDriver driver = GridRouter.get().newSession(options);
+            maximizeIfHeaded(driver);
+            return driver;
+        }
+        Integer slot = null;
+        String cacheDir = ConfigurationManager.get(ConfigKeys.DRIVER_DISK_CACHE_DIR);
+        if (!cacheDir.isBlank()) {
+            slot = freeCacheSlots.poll();
+            if (slot == null) {
+                slot = cacheSlots.getAndIncrement();
+            }
+        }
+        WebDriver driver;
+        try {
+            if (options instanceof ChromeOptions) {
+                ChromeOptions chrome = new ChromeOptions().merge(options);
+                if (slot != null) {
+                    chrome.addArguments("--disk-cache-dir=" + cacheSlotDir(cacheDir, "chrome", slot));
+                }
+                driver = new ChromeDriver(chrome);
+            } else {
+                FirefoxOptions firefox = new FirefoxOptions().merge(options);
+                if (slot != null) {
+                    firefox.addPreference("browser.cache.disk.parent_directory",
+                            cacheSlotDir(cacheDir, "firefox", slot).toString());
+                }
+                driver = new FirefoxDriver(firefox);
+            }
+        } catch (RuntimeException e) {
+            if (slot != null) {
+                freeCacheSlots.add(slot);
+            }
+            throw e;
+        }
+        if (slot != null) {
+            slotByDriver.put(driver, slot);
+        }
+        maximizeIfHeaded(driver);
+        blockUrls(driver);
+        return driver;
+    }
+
+    /**
+     * Give the cache slot (or remote grid slot) of a quit browser back for the next launch.
+     *
+     * @param driver The WebDriver that was quit.
+     */
+    public static void released(WebDriver driver) {
+        Integer slot = slotByDriver.remove(driver);
+        if (slot != null) {
+            freeCacheSlots.add(slot);
+        }
+        if (GridRouter.isEnabled()) {
+            GridRouter.get().released(driver);
+        }
+    }
+
+    private static void maximizeIfHeaded(WebDriver driver) {
+        boolean headless = ConfigurationManager.get(ConfigKeys.DRIVER_HEADLESS);
+        if (!headless && ConfigurationManager.get(ConfigKeys.DRIVER_WINDOW_SIZE).isBlank()) {
+            driver.manage().window().maximize();
+        }
+    }
+
+    private static void blockUrls(WebDriver driver) {
+        List<String> patterns = blockedUrls();
+        if (patterns.isEmpty() || !(driver instanceof ChromiumDriver)) {
+            return;
+        }
+        ChromiumDriver chromium = (ChromiumDriver) driver;
+        chromium.executeCdpCommand("Network.enable", Map.of());
+        chromium.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+        LoggerUtil.info("Blocking {} URL pattern(s) for profile {}", patterns.size(), name());
+    }
+
+    /**
+     * Send browser traffic through the {@link SiteStandIn} when one is configured. HTTPS is only
+     * proxied in replay, where the stand-in refuses it so nothing reaches the real site.
+     */
+    private static void routeThroughStandIn(MutableCapabilities options) {
+        if (!SiteStandIn.isEnabled()) {
+            return;
+        }
+        SiteStandIn standIn = SiteStandIn.get();
+        Proxy proxy = new Proxy().setHttpProxy(standIn.proxyAddress());
+        if (standIn.isReplay()) {
+            proxy.setSslProxy(standIn.proxyAddress());
+        }
+        options.setCapability(CapabilityType.PROXY, proxy);
+    }
+
+    /**
+     * Firefox can only block images as a whole, so it does that when image patterns are configured
+     * and leaves the page alone for any other pattern, rather than render a different page than Chrome.
+     */
+    private static void blockImagesOnFirefox(FirefoxOptions options) {
+        Map<Boolean, List<String>> patterns = blockedUrls().stream()
+                .collect(Collectors.partitioningBy(pattern -> IMAGE_PATTERN.matcher(pattern).matches()));
+        if (!patterns.get(true).isEmpty()) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (!patterns.get(false).isEmpty() && firefoxPatternsReported.compareAndSet(false, true)) {
+            LoggerUtil.warn("Firefox cannot block individual URLs; ignoring driver.blockedUrls " + patterns.get(false)
+                    + (patterns.get(true).isEmpty() ? "" : " and blocking all images for " + patterns.get(true)));
+        }
+    }
+
+    private static List<String> blockedUrls() {
+        return Arrays.stream(ConfigurationManager.get(ConfigKeys.DRIVER_BLOCKED_URLS).split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static Path cacheSlotDir(String cacheDir, String browser, int slot) {
+        return Paths.get(cacheDir, browser + "-" + slot).toAbsolutePath();
+    }
+
+    private static Dimension parseSize(String size) {
+        String[] parts = size.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("driver.windowSize must look like 1366x768: " + size);
+        }
+        return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+}
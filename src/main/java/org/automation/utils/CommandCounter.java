@@ -0,0 +1,48 @@
+package org.automation.utils;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebDriver listener that counts the commands issued on decorated drivers, per thread and in total,
+ * so the round-trip savings of batching can be measured per test.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements WebDriverListener), Observer pattern.
+ */
+public class CommandCounter implements WebDriverListener {
+    private static final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+    private static final LongAdder total = new LongAdder();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        perThread.get()[0]++;
+        total.increment();
+    }
+
+    /**
+     * Reset the current thread's count, e.g. at the start of a test.
+     */
+    public static void reset() {
+        perThread.get()[0] = 0;
+    }
+
+    /**
+     * Get the number of commands the current thread issued since the last reset.
+     *
+     * @return The command count.
+     */
+    public static long current() {
+        return perThread.get()[0];
+    }
+
+    /**
+     * Get the number of commands issued by all threads.
+     *
+     * @return The command count.
+     */
+    public static long total() {
+        return total.sum();
+    }
+}
@@ -1,50 +1,171 @@
 package org.automation.utils;
 
+import org.automation.config.ConfigKeys;
 import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory class to create thread-safe WebDriver instances based on configuration.
  * <p>
+ * Drivers are leased from a {@link DriverPool} keyed by browser and capabilities, so a warm
+ * session is reused across tests instead of launching a new browser for every test method.
+ * Tests get the pooled driver wrapped in an {@link EventFiringDecorator} that counts WebDriver
+ * commands ({@link CommandCounter}). Browser options come from the configured {@link BrowserProfile}.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (private ThreadLocal), Factory pattern.
  */
 public class DriverFactory {
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriver> rawDriver = new ThreadLocal<>();
+    private static final CommandCounter commandCounter = new CommandCounter();
+    private static final InteractionTimer interactionTimer = new InteractionTimer();
+    private static final ThreadLocal<DriverPool> leasedFrom = new ThreadLocal<>();
+    private static final ThreadLocal<Long> leaseWaitMillis = ThreadLocal.withInitial(() -> 0L);
+    private static final Map<String, DriverPool> pools = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverFactory::shutdown, "driver-pool-shutdown"));
+    }
 
     /**
-     * Get WebDriver instance for the current thread.
+     * Get WebDriver instance for the current thread, leasing one from the pool if needed.
      *
      * @return The WebDriver instance.
      */
     public static WebDriver getDriver() {
         if (driver.get() == null) {
-            String browser = ConfigurationManager.getProperty("browser");
-            switch (browser.toLowerCase()) {
-                case "chrome":
-                    driver.set(new ChromeDriver());
-                    break;
-                case "firefox":
-                    driver.set(new FirefoxDriver());
-                    break;
-                default:
-                    throw new IllegalArgumentException("Unsupported browser: " + browser);
-            }
-            driver.get().manage().window().maximize();
-            LoggerUtil.info("Initialized WebDriver for browser: " + browser);
+            long start = System.nanoTime();
+            DriverPool pool = currentPool();
+            Duration timeout = ConfigurationManager.get(ConfigKeys.POOL_LEASE_TIMEOUT);
+            WebDriver leased = pool.lease(timeout);
+            rawDriver.set(leased);
+            driver.set(new EventFiringDecorator<>(commandCounter, interactionTimer).decorate(leased));
+            leasedFrom.set(pool);
+            leaseWaitMillis.set(Duration.ofNanos(System.nanoTime() - start).toMillis());
         }
         return driver.get();
     }
 
     /**
-     * Quit WebDriver and clean up for the current thread.
+     * Start launching browsers in the background for the configured browser, so the first tests
+     * on each thread find a warm session instead of waiting for a browser to boot.
+     */
+    public static void prewarm() {
+        Integer configured = ConfigurationManager.get(ConfigKeys.POOL_PREWARM);
+        int count = configured != null ? configured : maxPoolSize();
+        currentPool().prewarm(count);
+    }
+
+    /**
+     * Get the session ID of the current thread's WebDriver.
+     *
+     * @return The session ID, or null if no driver is leased or it is not a remote driver.
+     */
+    public static String getSessionId() {
+        WebDriver leased = rawDriver.get();
+        if (leased instanceof RemoteWebDriver && ((RemoteWebDriver) leased).getSessionId() != null) {
+            return ((RemoteWebDriver) leased).getSessionId().toString();
+        }
+        return null;
+    }
+
+    /**
+     * Get how long the current thread waited for its WebDriver in the last {@link #getDriver()} call.
+     *
+     * @return The wait in milliseconds.
+     */
+    public static long getLeaseWaitMillis() {
+        return leaseWaitMillis.get();
+    }
+
+    /**
+     * Release the current thread's WebDriver back to its pool so the next test can reuse it.
+     */
+    public static void releaseDriver() {
+        if (driver.get() != null) {
+            leasedFrom.get().release(rawDriver.get());
+            driver.remove();
+            rawDriver.remove();
+            leasedFrom.remove();
+            LoggerUtil.info("WebDriver released to pool");
+        }
+    }
+
+    /**
+     * Quit WebDriver and clean up for the current thread. The session is evicted from the pool.
      */
     public static void quitDriver() {
         if (driver.get() != null) {
-            driver.get().quit();
+            leasedFrom.get().evict(rawDriver.get());
             driver.remove();
+            rawDriver.remove();
+            leasedFrom.remove();
             LoggerUtil.info("WebDriver quit successfully");
         }
     }
+
+    /**
+     * Quit every pooled WebDriver and publish the pool, grid endpoint and resource metrics to the report.
+     */
+    public static void shutdown() {
+        int sessions = pools.values().stream().mapToInt(DriverPool::getLiveSessions).sum();
+        if (!pools.isEmpty() && !GridRouter.isEnabled()) {
+            HostCapacity.recordFootprint(ConfigurationManager.get(ConfigKeys.BROWSER), sessions);
+        }
+        ResourceWatchdog.stop();
+        for (DriverPool pool : pools.values()) {
+            pool.shutdown();
+            ReportUtils.setSystemInfo("Driver pool " + pool.getKey(), pool.metrics());
+        }
+        pools.clear();
+        if (GridRouter.isEnabled()) {
+            GridRouter.get().metrics().forEach((node, metrics) -> ReportUtils.setSystemInfo("Grid node " + node, metrics));
+        }
+        SiteStandIn.shutdown();
+    }
+
+    private static DriverPool currentPool() {
+        String browser = ConfigurationManager.get(ConfigKeys.BROWSER);
+        Capabilities options = BrowserProfile.createOptions(browser);
+        return pools.computeIfAbsent(poolKey(browser, options), key -> new DriverPool(key,
+                () -> launch(browser, options),
+                DriverFactory::quit,
+                HostCapacity::hasHeadroomForBrowser,
+                ResourceWatchdog::shouldRecycle,
+                maxPoolSize(),
+                ConfigurationManager.get(ConfigKeys.POOL_MAX_REUSE),
+                ConfigurationManager.get(ConfigKeys.POOL_SPARES)));
+    }
+
+    private static int maxPoolSize() {
+        Integer configured = ConfigurationManager.get(ConfigKeys.POOL_MAX_SIZE);
+        return configured != null ? configured : HostCapacity.safeConcurrency();
+    }
+
+    private static WebDriver launch(String browser, Capabilities options) {
+        WebDriver newDriver = BrowserProfile.launch(options);
+        // browser-side waits run as async scripts and must be allowed to outlive the wait timeout
+        newDriver.manage().timeouts().scriptTimeout(
+                ConfigurationManager.get(ConfigKeys.WAIT_TIMEOUT).plusSeconds(5));
+        ResourceWatchdog.register(newDriver);
+        LoggerUtil.info("Initialized WebDriver for browser: " + browser + " with profile: " + BrowserProfile.name());
+        return newDriver;
+    }
+
+    private static void quit(WebDriver quitDriver) {
+        ResourceWatchdog.unregister(quitDriver);
+        BrowserProfile.released(quitDriver);
+    }
+
+    private static String poolKey(String browser, Capabilities options) {
+        return browser.toLowerCase() + new TreeMap<>(options.asMap());
+    }
 }
@@ -0,0 +1,405 @@
+package org.automation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of warm WebDriver sessions for one browser/capabilities combination.
+ * <p>
+ * A driver is leased to a test, reset when it is released and then handed to the next test
+ * instead of being quit. Sessions that fail the health check, reach the max reuse count or are
+ * reported worn out (e.g. by the {@link ResourceWatchdog}) are evicted.
+ * Browsers are launched on a background executor, so the pool can be pre-warmed at suite start and
+ * keep a number of spare sessions booting ahead of demand.
+ * <p>
+ * The pool throttles itself: no new browser is launched while the host lacks memory headroom
+ * (callers wait for an idle session instead), and every launch failure permanently gives up one
+ * slot of capacity, down to a single session.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private pool state), Object Pool pattern.
+ */
+public class DriverPool {
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final AtomicInteger launcherThreads = new AtomicInteger();
+    private static final ExecutorService launcherExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-launcher-" + launcherThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String key;
+    private final Supplier<WebDriver> launcher;
+    private final Consumer<WebDriver> onQuit;
+    private final BooleanSupplier headroom;
+    private final Predicate<WebDriver> wornOut;
+    private final int maxSize;
+    private final int maxReuse;
+    private final int spares;
+    private final Semaphore capacity;
+    private final AtomicInteger launching = new AtomicInteger();
+    private final AtomicInteger throttledSlots = new AtomicInteger();
+    private final AtomicBoolean memoryThrottled = new AtomicBoolean();
+    private volatile boolean closed;
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong launchFailures = new AtomicLong();
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    /**
+     * Constructor to create an empty pool.
+     *
+     * @param key      The browser/capabilities key this pool serves.
+     * @param launcher Creates a new driver when no warm one is available.
+     * @param onQuit   Called after a pooled driver has been quit.
+     * @param headroom Tells whether the host has memory for another browser right now.
+     * @param wornOut  Tells whether a released driver should be retired instead of reused.
+     * @param maxSize  The maximum number of live sessions (idle plus leased).
+     * @param maxReuse The number of leases after which a session is retired.
+     * @param spares   The number of idle sessions to keep ready ahead of demand.
+     */
+    public DriverPool(String key, Supplier<WebDriver> launcher, Consumer<WebDriver> onQuit, BooleanSupplier headroom,
+                      Predicate<WebDriver> wornOut, int maxSize, int maxReuse, int spares) {
+        if (maxSize < 1 || maxReuse < 1 || spares < 0) {
+            throw new IllegalArgumentException("Invalid size, max reuse or spares for pool: " + key);
+        }
+        this.key = key;
+        this.launcher = launcher;
+        this.onQuit = onQuit;
+        this.headroom = headroom;
+        this.wornOut = wornOut;
+        this.maxSize = maxSize;
+        this.maxReuse = maxReuse;
+        this.spares = spares;
+        this.capacity = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Leases a driver, reusing a warm session when one is idle and launching a new one otherwise.
+     * Blocks while the pool is at capacity.
+     *
+     * @param timeout The maximum time to wait for a free session.
+     * @return A healthy WebDriver instance owned by the caller until released.
+     */
+    public WebDriver lease(Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            while (true) {
+                PooledDriver pooled = idle.pollFirst();
+                if (pooled == null && canLaunch() && capacity.tryAcquire()) {
+                    misses.incrementAndGet();
+                    return checkout(awaitLaunch(launchAsync(), deadline), start);
+                }
+                if (pooled == null) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("Timed out after " + timeout.toSeconds()
+                                + "s waiting for a WebDriver from pool: " + key);
+                    }
+                    pooled = idle.pollFirst(Math.min(remaining,
+                            TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS)), TimeUnit.NANOSECONDS);
+                }
+                if (pooled != null) {
+                    if (isHealthy(pooled.driver)) {
+                        hits.incrementAndGet();
+                        return checkout(pooled, start);
+                    }
+                    discard(pooled, "failed health check");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a WebDriver from pool: " + key, e);
+        }
+    }
+
+    /**
+     * Starts up to {@code count} browsers in the background and parks them in the pool as idle
+     * sessions. Returns immediately; the launches overlap with whatever the caller does next.
+     *
+     * @param count The number of sessions to pre-warm, capped by the pool's free capacity.
+     */
+    public void prewarm(int count) {
+        int started = 0;
+        while (started < count && canLaunch() && capacity.tryAcquire()) {
+            launchAsync().thenAccept(this::park);
+            started++;
+        }
+        LoggerUtil.info("Pre-warming " + started + " WebDriver session(s) for pool: " + key);
+    }
+
+    /**
+     * Returns a leased driver to the pool after resetting its state. Drivers that cannot be
+     * reset, have reached the max reuse count or are worn out are quit instead.
+     *
+     * @param driver The driver previously obtained from {@link #lease(Duration)}.
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            LoggerUtil.info("Ignoring release of a driver not leased from pool: " + key);
+            return;
+        }
+        if (pooled.uses >= maxReuse) {
+            discard(pooled, "reached max reuse of " + maxReuse);
+            return;
+        }
+        if (wornOut.test(driver)) {
+            discard(pooled, "over resource limits");
+            return;
+        }
+        if (closed) {
+            discard(pooled, "pool is shut down");
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offerFirst(pooled);
+        } catch (WebDriverException e) {
+            discard(pooled, "failed reset: " + e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Quits a leased driver without returning it to the pool, e.g. after a crash.
+     *
+     * @param driver The driver previously obtained from {@link #lease(Duration)}.
+     */
+    public void evict(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled != null) {
+            discard(pooled, "evicted by caller");
+        }
+    }
+
+    /**
+     * Quits every idle and leased driver and logs the pool metrics.
+     */
+    public void shutdown() {
+        closed = true;
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            quitQuietly(pooled.driver);
+            capacity.release();
+        }
+        for (PooledDriver stillLeased : leased.values()) {
+            quitQuietly(stillLeased.driver);
+            capacity.release();
+        }
+        leased.clear();
+        LoggerUtil.info("Driver pool shut down: " + metrics());
+    }
+
+    /**
+     * Summarises hit/miss, eviction and lease-wait metrics for this pool.
+     *
+     * @return A human-readable metrics line.
+     */
+    public String metrics() {
+        long leases = leaseCount.get();
+        long avgWaitMillis = leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get() / leases);
+        return String.format("pool=%s maxSize=%d throttledSlots=%d leases=%d hits=%d misses=%d evictions=%d"
+                        + " launchFailures=%d avgLeaseWaitMs=%d maxLeaseWaitMs=%d",
+                key, maxSize, throttledSlots.get(), leases, hits.get(), misses.get(), evictions.get(), launchFailures.get(), avgWaitMillis,
+                TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getLaunchFailures() {
+        return launchFailures.get();
+    }
+
+    public int getLiveSessions() {
+        return idle.size() + leased.size() + launching.get();
+    }
+
+    /**
+     * Launches a browser on the background executor. The caller must already hold a capacity
+     * permit; it is given back if the launch fails.
+     */
+    private CompletableFuture<PooledDriver> launchAsync() {
+        launching.incrementAndGet();
+        CompletableFuture<PooledDriver> future = CompletableFuture.supplyAsync(
+                () -> new PooledDriver(launcher.get()), launcherExecutor);
+        future.whenComplete((pooled, failure) -> {
+            launching.decrementAndGet();
+            if (failure != null) {
+                launchFailures.incrementAndGet();
+                LoggerUtil.error("Failed to launch WebDriver for pool: " + key, failure);
+                if (throttledSlots.incrementAndGet() < maxSize) {
+                    // keep the permit: the pool runs one session smaller from now on
+                    LoggerUtil.info("Throttled pool " + key + " to " + (maxSize - throttledSlots.get())
+                            + " session(s) after launch failure");
+                } else {
+                    throttledSlots.decrementAndGet();
+                    capacity.release();
+                }
+            }
+        });
+        return future;
+    }
+
+    private PooledDriver awaitLaunch(CompletableFuture<PooledDriver> future, long deadline)
+            throws InterruptedException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new IllegalStateException("Failed to launch WebDriver for pool: " + key, cause);
+        } catch (TimeoutException e) {
+            // the session is still useful to whoever leases next once it finishes booting
+            future.thenAccept(this::park);
+            throw new IllegalStateException("Timed out waiting for a WebDriver to launch for pool: " + key, e);
+        }
+    }
+
+    /**
+     * A new browser may be launched when the host has memory headroom, or when the pool has no
+     * session at all (otherwise callers could wait forever).
+     */
+    private boolean canLaunch() {
+        boolean allowed = getLiveSessions() == 0 || headroom.getAsBoolean();
+        if (memoryThrottled.compareAndSet(allowed, !allowed)) {
+            LoggerUtil.info((allowed ? "Resumed" : "Paused") + " browser launches for pool " + key
+                    + (allowed ? "" : " due to memory pressure"));
+        }
+        return allowed;
+    }
+
+    /**
+     * Parks a freshly launched session as idle, or quits it if the pool was shut down meanwhile.
+     */
+    private void park(PooledDriver pooled) {
+        if (closed) {
+            quitQuietly(pooled.driver);
+            capacity.release();
+        } else {
+            idle.offerLast(pooled);
+        }
+    }
+
+    /**
+     * Keeps {@code spares} idle or booting sessions ahead of demand while capacity allows.
+     */
+    private void topUpSpares() {
+        while (!closed && idle.size() + launching.get() < spares && canLaunch() && capacity.tryAcquire()) {
+            launchAsync().thenAccept(this::park);
+        }
+    }
+
+    private WebDriver checkout(PooledDriver pooled, long waitStart) {
+        long waited = System.nanoTime() - waitStart;
+        leaseCount.incrementAndGet();
+        leaseWaitNanos.addAndGet(waited);
+        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+        pooled.uses++;
+        leased.put(pooled.driver, pooled);
+        topUpSpares();
+        return pooled.driver;
+    }
+
+    private void discard(PooledDriver pooled, String reason) {
+        evictions.incrementAndGet();
+        quitQuietly(pooled.driver);
+        capacity.release();
+        LoggerUtil.info("Evicted WebDriver from pool " + key + " after " + pooled.uses + " uses: " + reason);
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.isEmpty() ? null : Collections.min(handles);
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        if (keep != null) {
+            driver.switchTo().window(keep);
+        }
+        ((JavascriptExecutor) driver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        driver.manage().deleteAllCookies();
+        if (driver instanceof ChromiumDriver) {
+            // deleteAllCookies only covers the current origin; CDP clears every domain at once
+            ((ChromiumDriver) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        }
+        driver.get("about:blank");
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LoggerUtil.error("Failed to quit pooled WebDriver", e);
+        } finally {
+            onQuit.accept(driver);
+        }
+    }
+
+    /**
+     * A pooled session and its reuse count.
+     */
+    private static final class PooledDriver {
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.automation.utils;
+
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.http.HttpTimeoutException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * What a test failure says about its cause, used to decide whether running it again is worthwhile.
+ * <ul>
+ *     <li>{@link #INFRA}: the browser or its connection broke (crashed or unreachable browser, lost
+ *     session, pool lease timeout). The session cannot be trusted and should be replaced.</li>
+ *     <li>{@link #TIMING}: the page was not ready in time or changed underneath an action (timeouts,
+ *     stale or obscured elements). The session is fine; another attempt may pass.</li>
+ *     <li>{@link #PRODUCT}: an assertion failed or anything else went wrong. Running it again would
+ *     only hide a real defect.</li>
+ * </ul>
+ * An element that never appears surfaces as a wait timeout, so it counts as {@link #TIMING} and gets
+ * the (small) timing retry budget before failing.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (enum with classification logic).
+ */
+public enum FailureKind {
+    INFRA,
+    TIMING,
+    PRODUCT;
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+    private static final List<String> INFRA_MESSAGES = List.of(
+            "chrome not reachable", "disconnected:", "session deleted", "browser has closed",
+            "timed out receiving message from renderer", "failed to decode response from marionette",
+            "tried to run command without establishing a connection", "webdriver from pool");
+
+    /**
+     * Classify a failure by walking its cause chain. Infrastructure causes anywhere in the chain win,
+     * since a dead browser often shows up as a wait timeout first.
+     *
+     * @param failure The test's throwable, or null.
+     * @return The failure kind.
+     */
+    public static FailureKind classify(Throwable failure) {
+        if (failure == null || failure instanceof AssertionError) {
+            return PRODUCT;
+        }
+        FailureKind kind = PRODUCT;
+        Throwable cause = failure;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++, cause = cause.getCause()) {
+            if (isInfra(cause)) {
+                return INFRA;
+            }
+            if (isTiming(cause)) {
+                kind = TIMING;
+            }
+        }
+        return kind;
+    }
+
+    private static boolean isInfra(Throwable t) {
+        if (t instanceof NoSuchSessionException || t instanceof SessionNotCreatedException
+                || t instanceof UnreachableBrowserException || t instanceof ConnectException
+                || t instanceof SocketException || t instanceof HttpTimeoutException) {
+            return true;
+        }
+        if (!(t instanceof WebDriverException || t instanceof IllegalStateException) || t.getMessage() == null) {
+            return false;
+        }
+        String message = t.getMessage().toLowerCase(Locale.ROOT);
+        return INFRA_MESSAGES.stream().anyMatch(message::contains);
+    }
+
+    private static boolean isTiming(Throwable t) {
+        return t instanceof TimeoutException || t instanceof ScriptTimeoutException
+                || t instanceof StaleElementReferenceException || t instanceof InvalidElementStateException
+                || t instanceof MoveTargetOutOfBoundsException;
+    }
+}
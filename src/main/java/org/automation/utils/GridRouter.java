@@ -0,0 +1,384 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Routes new browser sessions to remote Selenium Grid or standalone endpoints by free capacity.
+ * <p>
+ * With {@code grid.endpoints} set (comma-separated URLs), {@link BrowserProfile#launch} creates
+ * {@link RemoteWebDriver}s here instead of local browsers. Each endpoint's {@code /status} is polled
+ * at most every {@code grid.statusIntervalMillis} for the slots matching the requested browser on
+ * its nodes that are up; between polls, the router adjusts those counts for sessions it has created
+ * and quit itself. A new session goes to the endpoint with the lowest share of busy slots. When every
+ * endpoint is full, requests wait in arrival order for a slot to free up, and fail with
+ * {@link SessionNotCreatedException} after {@code grid.queueTimeoutSeconds}. An endpoint that refuses
+ * connections is marked down until its status answers again, and the request fails over to the next.
+ * <p>
+ * Session creation latency and queue time are kept per endpoint; {@link #metrics()} summarises them
+ * and {@link DriverFactory#shutdown()} adds them to the report. Remote browsers do not get the local
+ * disk cache slots or CDP URL blocking, and reach the {@link SiteStandIn} only when they run on
+ * this host.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private node state), Singleton pattern.
+ */
+public class GridRouter {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static volatile GridRouter instance;
+
+    private final List<Node> nodes;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotFreed = lock.newCondition();
+    private final Map<WebDriver, Node> sessions = new ConcurrentHashMap<>();
+    private final Duration queueTimeout;
+    private final long statusIntervalNanos;
+
+    /**
+     * One endpoint and what is known about its capacity. Counters are guarded by the router's lock.
+     */
+    private static final class Node {
+        private final URI uri;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final LatencyHistogram creation = new LatencyHistogram();
+        private final LatencyHistogram queue = new LatencyHistogram();
+        private final AtomicLong failures = new AtomicLong();
+        private volatile long checkedAtNanos;
+        private volatile boolean checked;
+        private boolean up = true;
+        private int total;
+        private int free;
+        private int pending;
+        private int createdSinceCheck;
+        private int quitSinceCheck;
+        private int active;
+
+        private Node(URI uri) {
+            this.uri = uri;
+        }
+
+        private int available() {
+            return Math.min(total, free + quitSinceCheck) - pending - createdSinceCheck;
+        }
+
+        private double load() {
+            return total == 0 ? 1 : 1 - (double) available() / total;
+        }
+
+        @Override
+        public String toString() {
+            return uri.toString();
+        }
+    }
+
+    private GridRouter(List<URI> endpoints) {
+        this.nodes = endpoints.stream().map(Node::new).collect(Collectors.toList());
+        this.queueTimeout = ConfigurationManager.get(ConfigKeys.GRID_QUEUE_TIMEOUT);
+        this.statusIntervalNanos = TimeUnit.MILLISECONDS.toNanos(
+                ConfigurationManager.get(ConfigKeys.GRID_STATUS_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Check whether sessions should be created on remote endpoints.
+     *
+     * @return True if {@code grid.endpoints} is set.
+     */
+    public static boolean isEnabled() {
+        return !ConfigurationManager.get(ConfigKeys.GRID_ENDPOINTS).isBlank();
+    }
+
+    /**
+     * Get the router for the configured endpoints.
+     *
+     * @return The shared router.
+     */
+    public static GridRouter get() {
+        if (instance == null) {
+            synchronized (GridRouter.class) {
+                if (instance == null) {
+                    List<URI> endpoints = Arrays.stream(ConfigurationManager.get(ConfigKeys.GRID_ENDPOINTS).split(","))
+                            .map(String::trim)
+                            .filter(endpoint -> !endpoint.isEmpty())
+                            .map(endpoint -> URI.create(endpoint.endsWith("/") ? endpoint : endpoint + "/"))
+                            .collect(Collectors.toList());
+                    if (endpoints.isEmpty()) {
+                        throw new IllegalStateException("No grid.endpoints configured");
+                    }
+                    instance = new GridRouter(endpoints);
+                    LoggerUtil.info("Routing browser sessions to grid endpoints {}", endpoints);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Create a session on the least-loaded endpoint with a free slot, waiting for one if all are busy.
+     *
+     * @param options The browser options.
+     * @return The new remote session.
+     * @throws SessionNotCreatedException If no slot frees up within {@code grid.queueTimeoutSeconds}.
+     */
+    public WebDriver newSession(Capabilities options) {
+        String browser = options.getBrowserName();
+        long start = System.nanoTime();
+        long deadline = start + queueTimeout.toNanos();
+        Set<Node> failed = new HashSet<>();
+        WebDriverException lastFailure = null;
+        while (true) {
+            refresh(browser, false);
+            Node node;
+            lock.lock();
+            try {
+                node = leastLoaded(failed);
+                if (node == null) {
+                    if (failed.size() == nodes.size()) {
+                        throw lastFailure;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new SessionNotCreatedException("No free " + browser + " slot on " + nodes + " within "
+                                + queueTimeout.toSeconds() + "s");
+                    }
+                    slotFreed.awaitNanos(Math.min(remaining, statusIntervalNanos));
+                    continue;
+                }
+                node.pending++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SessionNotCreatedException("Interrupted while waiting for a grid slot");
+            } finally {
+                lock.unlock();
+            }
+            long queued = System.nanoTime() - start;
+            long launchStart = System.nanoTime();
+            try {
+                WebDriver driver = new RemoteWebDriver(node.uri.toURL(), options);
+                node.creation.record(System.nanoTime() - launchStart);
+                node.queue.record(queued);
+                sessions.put(driver, node);
+                lock.lock();
+                try {
+                    node.pending--;
+                    node.createdSinceCheck++;
+                    node.active++;
+                } finally {
+                    lock.unlock();
+                }
+                LoggerUtil.info("Created " + browser + " session on " + node + " in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchStart) + " ms after "
+                        + TimeUnit.NANOSECONDS.toMillis(queued) + " ms queued");
+                return driver;
+            } catch (WebDriverException e) {
+                lastFailure = e;
+                failed.add(node);
+                node.failures.incrementAndGet();
+                boolean unreachable = FailureKind.classify(e) == FailureKind.INFRA
+                        && !(e instanceof SessionNotCreatedException);
+                lock.lock();
+                try {
+                    node.pending--;
+                    if (unreachable) {
+                        node.up = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                LoggerUtil.warn("Session creation on " + node + " failed" + (unreachable ? " (marked down)" : "")
+                        + ", trying another endpoint: " + e.getClass().getSimpleName());
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("Invalid grid endpoint: " + node, e);
+            }
+        }
+    }
+
+    /**
+     * Free the slot of a session this router created, waking a queued request. Called after the
+     * driver has been quit.
+     *
+     * @param driver The quit driver.
+     */
+    public void released(WebDriver driver) {
+        Node node = sessions.remove(driver);
+        if (node == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            node.active--;
+            node.quitSinceCheck++;
+            slotFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of slots for a browser across the endpoints that are up, checked now.
+     *
+     * @param browser The browser name, as in the node stereotypes.
+     * @return The total slot count.
+     */
+    public int totalSlots(String browser) {
+        refresh(browser, true);
+        lock.lock();
+        try {
+            return nodes.stream().filter(node -> node.up).mapToInt(node -> node.total).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Summarise each endpoint's capacity, sessions, failures, creation latency and queue time.
+     *
+     * @return Endpoint URL to summary.
+     */
+    public Map<String, String> metrics() {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            for (Node node : nodes) {
+                metrics.put(node.toString(), (node.up ? "up" : "down") + ", " + node.free + "/" + node.total
+                        + " slots free at last check, " + node.creation.getCount() + " session(s) created, "
+                        + node.active + " active, " + node.failures.get() + " failure(s), creation p50 "
+                        + format(node.creation.percentileMillis(50)) + " ms / p95 "
+                        + format(node.creation.percentileMillis(95)) + " ms, queued p50 "
+                        + format(node.queue.percentileMillis(50)) + " ms / p95 "
+                        + format(node.queue.percentileMillis(95)) + " ms");
+            }
+        } finally {
+            lock.unlock();
+        }
+        return metrics;
+    }
+
+    private Node leastLoaded(Set<Node> failed) {
+        Node best = null;
+        for (Node node : nodes) {
+            if (!node.up || failed.contains(node) || node.available() <= 0) {
+                continue;
+            }
+            if (best == null || node.load() < best.load()
+                    || (node.load() == best.load() && node.available() > best.available())) {
+                best = node;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Poll the status of endpoints not checked within the interval (or all of them when forced).
+     * The counters the router kept since the poll started stay applied on top of its answer.
+     */
+    private void refresh(String browser, boolean force) {
+        for (Node node : nodes) {
+            boolean due = !node.checked || System.nanoTime() - node.checkedAtNanos >= statusIntervalNanos;
+            if (!(force || due) || !node.refreshing.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                int createdBefore;
+                int quitBefore;
+                lock.lock();
+                try {
+                    createdBefore = node.createdSinceCheck;
+                    quitBefore = node.quitSinceCheck;
+                } finally {
+                    lock.unlock();
+                }
+                int[] slots = fetchSlots(node, browser);
+                lock.lock();
+                try {
+                    if (node.up != (slots != null)) {
+                        LoggerUtil.warn("Grid endpoint " + node + " is " + (slots != null ? "up" : "down"));
+                    }
+                    node.up = slots != null;
+                    if (slots != null) {
+                        node.total = slots[0];
+                        node.free = slots[1];
+                        node.createdSinceCheck -= createdBefore;
+                        node.quitSinceCheck -= quitBefore;
+                        slotFreed.signalAll();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                node.checkedAtNanos = System.nanoTime();
+                node.checked = true;
+            } finally {
+                node.refreshing.set(false);
+            }
+        }
+    }
+
+    /**
+     * @return {total, free} slots for the browser on the endpoint's nodes that are up, or null if the
+     * endpoint did not answer.
+     */
+    private int[] fetchSlots(Node node, String browser) {
+        try {
+            HttpResponse<String> response = http.send(HttpRequest.newBuilder(node.uri.resolve("status"))
+                    .timeout(Duration.ofSeconds(5)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                LoggerUtil.debug("Grid endpoint {} status returned HTTP {}", node, response.statusCode());
+                return null;
+            }
+            int total = 0;
+            int free = 0;
+            for (JsonNode gridNode : mapper.readTree(response.body()).path("value").path("nodes")) {
+                if (!"UP".equalsIgnoreCase(gridNode.path("availability").asText("UP"))) {
+                    continue;
+                }
+                for (JsonNode slot : gridNode.path("slots")) {
+                    if (!browser.equalsIgnoreCase(slot.path("stereotype").path("browserName").asText())) {
+                        continue;
+                    }
+                    total++;
+                    if (slot.path("session").isNull() || slot.path("session").isMissingNode()) {
+                        free++;
+                    }
+                }
+            }
+            return new int[]{total, free};
+        } catch (IOException e) {
+            LoggerUtil.debug("Grid endpoint {} unreachable: {}", node, e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String format(double millis) {
+        return String.format("%.0f", millis);
+    }
+}
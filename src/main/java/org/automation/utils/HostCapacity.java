@@ -0,0 +1,197 @@
+package org.automation.utils;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Works out how many browsers this host can safely run at once from its cores, available memory
+ * and the measured memory footprint of one browser session.
+ * <p>
+ * Footprints are measured from the browser process trees at the end of each run and persisted in
+ * the history directory, so later runs size themselves from real numbers instead of the defaults.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private static helpers), Utility pattern.
+ */
+public class HostCapacity {
+    private static final long MB = 1024L * 1024L;
+    private static final String FOOTPRINT_FILE = "browser-footprint.properties";
+
+    /**
+     * Compute the safe number of concurrent browser sessions for the configured browser.
+     * An explicit {@code parallel.threadCount} always wins; with remote sessions
+     * ({@link GridRouter}), the grid's slots set the limit instead of this host.
+     *
+     * @return The number of test threads / pooled sessions to run, at least one.
+     */
+    public static int safeConcurrency() {
+        int fixed = ConfigurationManager.get(ConfigKeys.PARALLEL_THREAD_COUNT);
+        if (fixed > 0) {
+            return fixed;
+        }
+        String browser = ConfigurationManager.get(ConfigKeys.BROWSER);
+        if (GridRouter.isEnabled()) {
+            int slots = GridRouter.get().totalSlots(BrowserProfile.createOptions(browser).getBrowserName());
+            int concurrency = Math.max(1, Math.min(slots,
+                    ConfigurationManager.get(ConfigKeys.PARALLEL_MAX_THREADS)));
+            LoggerUtil.info("Grid concurrency " + concurrency + " (" + slots + " " + browser + " slot(s))");
+            return concurrency;
+        }
+        int cores = Runtime.getRuntime().availableProcessors();
+        long usableMemory = availableMemoryBytes() - memoryReserveBytes();
+        long byMemory = Math.max(1, usableMemory / browserFootprintBytes(browser));
+        int byCores = Math.max(1, cores / ConfigurationManager.get(ConfigKeys.PARALLEL_CORES_PER_BROWSER));
+        int maxThreads = ConfigurationManager.get(ConfigKeys.PARALLEL_MAX_THREADS);
+        int concurrency = (int) Math.max(1, Math.min(Math.min(byCores, byMemory), maxThreads));
+        LoggerUtil.info("Adaptive concurrency " + concurrency + " (cores=" + cores + ", byCores=" + byCores
+                + ", availableMb=" + availableMemoryBytes() / MB + ", footprintMb="
+                + browserFootprintBytes(browser) / MB + ", byMemory=" + byMemory + ")");
+        return concurrency;
+    }
+
+    /**
+     * Check whether the host still has room for one more browser on top of the memory reserve.
+     * Always true for remote sessions, which the {@link GridRouter} throttles by free slots.
+     *
+     * @return True if another browser can be launched without eating into the reserve.
+     */
+    public static boolean hasHeadroomForBrowser() {
+        if (GridRouter.isEnabled()) {
+            return true;
+        }
+        String browser = ConfigurationManager.get(ConfigKeys.BROWSER);
+        return availableMemoryBytes() - memoryReserveBytes() >= browserFootprintBytes(browser);
+    }
+
+    /**
+     * Get the memory currently available to new processes. Uses {@code MemAvailable} from
+     * {@code /proc/meminfo} on Linux, which unlike "free" counts reclaimable page cache.
+     *
+     * @return The available memory in bytes.
+     */
+    public static long availableMemoryBytes() {
+        Path meminfo = Paths.get("/proc/meminfo");
+        if (Files.isReadable(meminfo)) {
+            try {
+                for (String line : Files.readAllLines(meminfo)) {
+                    if (line.startsWith("MemAvailable:")) {
+                        return parseKb(line) * 1024L;
+                    }
+                }
+            } catch (IOException e) {
+                LoggerUtil.error("Failed to read /proc/meminfo", e);
+            }
+        }
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize();
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    /**
+     * Get the resident memory of every process started by this JVM (drivers and browsers).
+     *
+     * @return The summed RSS in bytes, or 0 where {@code /proc} is unavailable.
+     */
+    public static long descendantRssBytes() {
+        return ProcessHandle.current().descendants()
+                .mapToLong(process -> residentBytes(process.pid()))
+                .sum();
+    }
+
+    /**
+     * Get the resident memory of a single process from {@code /proc/<pid>/status}.
+     *
+     * @param pid The process id.
+     * @return The RSS in bytes, or 0 if the process is gone or {@code /proc} is unavailable.
+     */
+    public static long residentBytes(long pid) {
+        try {
+            List<String> lines = Files.readAllLines(Paths.get("/proc", String.valueOf(pid), "status"));
+            for (String line : lines) {
+                if (line.startsWith("VmRSS:")) {
+                    return parseKb(line) * 1024L;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // process exited between listing and reading, or no procfs on this platform
+        }
+        return 0;
+    }
+
+    /**
+     * Record the per-session footprint measured while {@code sessions} browsers were alive. The
+     * stored value is a moving average so a single noisy run does not swing the sizing.
+     *
+     * @param browser  The browser name.
+     * @param sessions The number of live browser sessions at the time of measurement.
+     */
+    public static void recordFootprint(String browser, int sessions) {
+        long rss = descendantRssBytes();
+        if (sessions <= 0 || rss <= 0) {
+            return;
+        }
+        long measured = rss / sessions;
+        Path file = historyDir().resolve(FOOTPRINT_FILE);
+        Properties footprints = loadFootprints(file);
+        String previous = footprints.getProperty(browser.toLowerCase());
+        long blended = previous == null ? measured : (Long.parseLong(previous) + measured) / 2;
+        footprints.setProperty(browser.toLowerCase(), String.valueOf(blended));
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                footprints.store(out, "Measured RSS per browser session in bytes");
+            }
+            LoggerUtil.info("Recorded " + browser + " footprint of " + measured / MB + " MB per session");
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to record browser footprint", e);
+        }
+    }
+
+    /**
+     * Get the directory where run history (footprints, durations) is kept between runs.
+     *
+     * @return The history directory path.
+     */
+    public static Path historyDir() {
+        return Paths.get(ConfigurationManager.get(ConfigKeys.HISTORY_DIR));
+    }
+
+    private static long browserFootprintBytes(String browser) {
+        String measured = loadFootprints(historyDir().resolve(FOOTPRINT_FILE)).getProperty(browser.toLowerCase());
+        if (measured != null) {
+            return Math.max(MB, Long.parseLong(measured));
+        }
+        return ConfigurationManager.getIntProperty("parallel.footprintMb." + browser.toLowerCase(), 600) * MB;
+    }
+
+    private static long memoryReserveBytes() {
+        return ConfigurationManager.get(ConfigKeys.PARALLEL_MEMORY_RESERVE_MB) * MB;
+    }
+
+    private static Properties loadFootprints(Path file) {
+        Properties footprints = new Properties();
+        if (Files.isReadable(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                footprints.load(in);
+            } catch (IOException e) {
+                LoggerUtil.error("Failed to read browser footprints", e);
+            }
+        }
+        return footprints;
+    }
+
+    private static long parseKb(String line) {
+        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+    }
+}
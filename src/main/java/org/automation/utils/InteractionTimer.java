@@ -0,0 +1,201 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebDriver listener that times every command on decorated drivers, plus static timers for the
+ * {@link Utils} actions and page navigations built on top of them.
+ * <p>
+ * Samples go into {@link LatencyHistogram}s in three groups:
+ * <ul>
+ *     <li>commands: one per WebDriver command, with element commands keyed by the locator the
+ *     element was found by, so slow locators stand out;</li>
+ *     <li>actions: one per {@link Utils} action, including its waits;</li>
+ *     <li>pages: every command issued while a page object is current on the thread, plus page
+ *     loads keyed by URL.</li>
+ * </ul>
+ * {@link #export()} writes the percentiles to {@code interaction-timings.json} in
+ * {@link SuiteShard#outputDir()} and adds a section to the Extent report.
+ * <p>
+ * Demonstrates OOP principles: Abstraction (implements WebDriverListener), Observer pattern.
+ */
+public class InteractionTimer implements WebDriverListener {
+    private static final String EXPORT_FILE = "interaction-timings.json";
+    private static final int REPORT_ROWS = 15;
+
+    private static final Map<String, LatencyHistogram> commands = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> actions = new ConcurrentHashMap<>();
+    private static final Map<String, LatencyHistogram> pages = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Deque<Long>> started = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<String> currentPage = new ThreadLocal<>();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        started.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        stop(target, method, args);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        stop(target, method, args);
+    }
+
+    private static void stop(Object target, Method method, Object[] args) {
+        Long start = started.get().poll();
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        histogram(commands, commandKey(target, method, args)).record(nanos);
+        String page = currentPage.get();
+        if (page != null) {
+            histogram(pages, page).record(nanos);
+        }
+    }
+
+    /**
+     * Record the time of a {@link Utils} action.
+     *
+     * @param action    The action name.
+     * @param startNanos The {@link System#nanoTime()} at the start of the action.
+     */
+    public static void recordAction(String action, long startNanos) {
+        histogram(actions, action).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Record a page load.
+     *
+     * @param url       The URL loaded; the query string is dropped from the key.
+     * @param startNanos The {@link System#nanoTime()} at the start of the load.
+     */
+    public static void recordPageLoad(String url, long startNanos) {
+        int query = url.indexOf('?');
+        histogram(pages, "load " + (query < 0 ? url : url.substring(0, query))).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Attribute the current thread's following commands to a page.
+     *
+     * @param page The page name.
+     */
+    public static void enterPage(String page) {
+        currentPage.set(page);
+    }
+
+    /**
+     * Clear the current thread's page and any timers left open by an interrupted command, e.g. at
+     * the end of a test.
+     */
+    public static void clearContext() {
+        currentPage.remove();
+        started.remove();
+    }
+
+    /**
+     * Write all histograms to {@code interaction-timings.json} and add the slowest commands,
+     * actions and pages by p95 to the report.
+     */
+    public static void export() {
+        Map<String, Object> export = new LinkedHashMap<>();
+        export.put("commands", summaries(commands));
+        export.put("actions", summaries(actions));
+        export.put("pages", summaries(pages));
+        try {
+            Path path = SuiteShard.outputDir().resolve(EXPORT_FILE);
+            Files.createDirectories(path.getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), export);
+            LoggerUtil.info("Interaction timings written to {}", path);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write interaction timings", e);
+        }
+        if (commands.isEmpty() && actions.isEmpty()) {
+            return;
+        }
+        ReportTest section = ReportUtils.createTest("Interaction timings");
+        section.info(table("Slowest commands", commands));
+        section.info(table("Slowest actions", actions));
+        section.info(table("Slowest pages", pages));
+        section.end();
+    }
+
+    private static LatencyHistogram histogram(Map<String, LatencyHistogram> group, String key) {
+        LatencyHistogram histogram = group.get(key);
+        return histogram != null ? histogram : group.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+
+    private static String commandKey(Object target, Method method, Object[] args) {
+        if (target instanceof WebElement) {
+            return "element." + method.getName() + " " + locatorOf(target);
+        }
+        if (target instanceof WebDriver && args != null && args.length > 0 && args[0] instanceof By) {
+            return method.getName() + " " + args[0];
+        }
+        String type = target instanceof WebDriver ? "driver" : target.getClass().getSimpleName();
+        return type + "." + method.getName();
+    }
+
+    /**
+     * Remote elements describe themselves as {@code [[driver] -> css selector: x]}; keep the locator.
+     */
+    private static String locatorOf(Object element) {
+        String description = element.toString();
+        int arrow = description.lastIndexOf(" -> ");
+        if (arrow < 0) {
+            return "(unknown locator)";
+        }
+        return description.substring(arrow + 4, description.length() - (description.endsWith("]") ? 1 : 0));
+    }
+
+    private static Map<String, Object> summaries(Map<String, LatencyHistogram> group) {
+        Map<String, Object> summaries = new LinkedHashMap<>();
+        group.entrySet().stream()
+                .sorted(byP95())
+                .forEach(entry -> summaries.put(entry.getKey(), entry.getValue().summary()));
+        return summaries;
+    }
+
+    private static String table(String title, Map<String, LatencyHistogram> group) {
+        StringBuilder html = new StringBuilder("<b>").append(title).append("</b>")
+                .append("<table class='table table-sm'><tr><th>Name</th><th>Count</th><th>p50 ms</th>")
+                .append("<th>p95 ms</th><th>p99 ms</th><th>Max ms</th></tr>");
+        group.entrySet().stream().sorted(byP95()).limit(REPORT_ROWS).forEach(entry -> {
+            Map<String, Object> summary = entry.getValue().summary();
+            html.append("<tr><td>").append(escape(entry.getKey())).append("</td><td>").append(summary.get("count"))
+                    .append("</td><td>").append(summary.get("p50Ms")).append("</td><td>").append(summary.get("p95Ms"))
+                    .append("</td><td>").append(summary.get("p99Ms")).append("</td><td>").append(summary.get("maxMs"))
+                    .append("</td></tr>");
+        });
+        return html.append("</table>").toString();
+    }
+
+    private static Comparator<Map.Entry<String, LatencyHistogram>> byP95() {
+        return Comparator.comparingDouble((Map.Entry<String, LatencyHistogram> entry) ->
+                entry.getValue().percentileMillis(95)).reversed();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,117 @@
+package org.automation.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in the style of HdrHistogram: log-linear buckets over microseconds,
+ * 64 sub-buckets per power of two, so every recorded value is kept to within about 1.6% in a fixed
+ * 14 KB array no matter how many samples are recorded. Values above one hour are clamped.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private bucket array).
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int HALF_SUB_BUCKETS = 1 << (SUB_BUCKET_BITS - 1);
+    private static final long MAX_MICROS = (1L << 32) - 1;
+    private static final int BUCKETS = index(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record one sample.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long micros = Math.min(Math.max(nanos / 1_000, 0), MAX_MICROS);
+        counts.incrementAndGet(index(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the total time recorded.
+     *
+     * @return The sum of all samples in milliseconds.
+     */
+    public double getTotalMillis() {
+        return totalMicros.sum() / 1_000.0;
+    }
+
+    /**
+     * Get the value at a percentile: the highest value equivalent to the bucket the percentile falls in.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The latency in milliseconds, or 0 if nothing was recorded.
+     */
+    public double percentileMillis(double percentile) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), maxMicros.get()) / 1_000.0;
+            }
+        }
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Summarize the histogram for export.
+     *
+     * @return The count, mean, p50, p95, p99 and max, in milliseconds.
+     */
+    public Map<String, Object> summary() {
+        long samples = getCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", samples);
+        summary.put("totalMs", round(getTotalMillis()));
+        summary.put("meanMs", samples == 0 ? 0 : round(getTotalMillis() / samples));
+        summary.put("p50Ms", round(percentileMillis(50)));
+        summary.put("p95Ms", round(percentileMillis(95)));
+        summary.put("p99Ms", round(percentileMillis(99)));
+        summary.put("maxMs", round(maxMicros.get() / 1_000.0));
+        return summary;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+
+    /**
+     * Values below 128 get a bucket each; above that, each power of two [2^(e+6), 2^(e+7)) is split
+     * into 64 buckets of width 2^e.
+     */
+    private static int index(long micros) {
+        if (micros < 2 * HALF_SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKETS + (int) (micros >>> shift);
+    }
+
+    private static long highestEquivalent(int index) {
+        if (index < 2 * HALF_SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -2,14 +2,24 @@ package org.automation.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+
+import java.util.function.Supplier;
 
 /**
  * Centralized logging utility using Log4j2.
  * <p>
+ * Loggers are asynchronous (see {@code log4j2.component.properties}), so the calling thread only
+ * publishes an event to a bounded ring buffer. Prefer the parameterized ({@code "{}"}) or
+ * {@link Supplier} overloads on hot paths: the message, including any {@code toString()} of its
+ * arguments, is only built when the level is enabled.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (private static logger), Utility pattern.
  */
 public class LoggerUtil {
     private static final Logger logger = LogManager.getLogger(LoggerUtil.class);
+    private static final String TEST_NAME = "testName";
+    private static final String SESSION_ID = "sessionId";
 
     /**
      * Log an info message.
@@ -20,6 +30,57 @@ public class LoggerUtil {
         logger.info(message);
     }
 
+    /**
+     * Log a parameterized info message; {@code {}} placeholders are only formatted if INFO is enabled.
+     *
+     * @param format The message pattern.
+     * @param arg    The placeholder argument.
+     */
+    public static void info(String format, Object arg) {
+        logger.info(format, arg);
+    }
+
+    /**
+     * Log a parameterized info message; {@code {}} placeholders are only formatted if INFO is enabled.
+     *
+     * @param format The message pattern.
+     * @param arg1   The first placeholder argument.
+     * @param arg2   The second placeholder argument.
+     */
+    public static void info(String format, Object arg1, Object arg2) {
+        logger.info(format, arg1, arg2);
+    }
+
+    /**
+     * Log a parameterized info message; {@code {}} placeholders are only formatted if INFO is enabled.
+     *
+     * @param format The message pattern.
+     * @param args   The placeholder arguments.
+     */
+    public static void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+
+    /**
+     * Log an info message built by a supplier that is only called if INFO is enabled.
+     *
+     * @param message Supplies the message to log.
+     */
+    public static void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+
+    /**
+     * Log a warning message.
+     *
+     * @param message The message to log.
+     */
+    public static void warn(String message) {
+        logger.warn(message);
+    }
+
     /**
      * Log an error message with throwable.
      *
@@ -38,4 +99,58 @@ public class LoggerUtil {
     public static void debug(String message) {
         logger.debug(message);
     }
+
+    /**
+     * Log a parameterized debug message; {@code {}} placeholders are only formatted if DEBUG is enabled.
+     *
+     * @param format The message pattern.
+     * @param arg    The placeholder argument.
+     */
+    public static void debug(String format, Object arg) {
+        logger.debug(format, arg);
+    }
+
+    /**
+     * Log a parameterized debug message; {@code {}} placeholders are only formatted if DEBUG is enabled.
+     *
+     * @param format The message pattern.
+     * @param arg1   The first placeholder argument.
+     * @param arg2   The second placeholder argument.
+     */
+    public static void debug(String format, Object arg1, Object arg2) {
+        logger.debug(format, arg1, arg2);
+    }
+
+    /**
+     * Log a debug message built by a supplier that is only called if DEBUG is enabled.
+     *
+     * @param message Supplies the message to log.
+     */
+    public static void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
+    /**
+     * Tag every log event from the current thread with the running test and its driver session,
+     * so interleaved output from parallel tests can be separated.
+     *
+     * @param testName  The name of the running test.
+     * @param sessionId The WebDriver session ID, or null if none.
+     */
+    public static void setTestContext(String testName, String sessionId) {
+        ThreadContext.put(TEST_NAME, testName);
+        if (sessionId != null) {
+            ThreadContext.put(SESSION_ID, sessionId);
+        }
+    }
+
+    /**
+     * Remove the test context set by {@link #setTestContext(String, String)} from the current thread.
+     */
+    public static void clearTestContext() {
+        ThreadContext.remove(TEST_NAME);
+        ThreadContext.remove(SESSION_ID);
+    }
 }
@@ -0,0 +1,65 @@
+package org.automation.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+
+import java.util.Map;
+
+/**
+ * One report event, as queued by test threads and written to the JSONL event log. Replaying the
+ * log through {@link #applyTo} rebuilds the Extent report, which is how {@link ReportMerger} joins
+ * shard reports.
+ */
+record ReportEvent(long seq, long timestamp, long testId, String name, String type,
+                   String message, String detail, String thread) {
+
+    /**
+     * Apply this event to an Extent report.
+     *
+     * @param extent    The report.
+     * @param openTests The report's tests that have not ended yet, by test ID; updated by this call.
+     */
+    void applyTo(ExtentReports extent, Map<Long, ExtentTest> openTests) {
+        if ("create".equals(type)) {
+            openTests.put(testId, extent.createTest(name));
+            return;
+        }
+        if ("system".equals(type)) {
+            extent.setSystemInfo(name, message);
+            return;
+        }
+        ExtentTest test = openTests.get(testId);
+        if (test == null) {
+            return;
+        }
+        switch (type) {
+            case "info":
+                test.info(message);
+                break;
+            case "warning":
+                test.warning(message);
+                break;
+            case "pass":
+                test.pass(message);
+                break;
+            case "fail":
+                test.fail(message);
+                if (detail != null) {
+                    test.fail(MarkupHelper.createCodeBlock(detail));
+                }
+                break;
+            case "skip":
+                test.skip(message);
+                break;
+            case "screenshot":
+                test.addScreenCaptureFromPath(message);
+                break;
+            case "end":
+                openTests.remove(testId);
+                break;
+            default:
+                LoggerUtil.warn("Unknown report event type: " + type);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.automation.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Combines the output directories of a sharded run (see {@link SuiteShard}) into one report.
+ * <p>
+ * The shards' JSONL event logs are interleaved by timestamp and replayed into a new Extent report,
+ * with test IDs made unique per shard and system info labelled with its shard. Screenshots are
+ * copied next to the merged report; their names are content hashes, so duplicates across shards
+ * collapse. The result is {@code ExtentReport.html}, {@code ExtentReport-events.jsonl},
+ * {@code screenshots/} and a {@code merged-summary.json} with pass/fail/skip counts per shard.
+ * Each shard's run history is merged into the local {@link TestHistory}, so the next split is
+ * balanced with it. Shard directories can come from other processes or other machines:
+ * <pre>
+ * java -cp target/classes:... org.automation.utils.ReportMerger target/merged target/shard-*
+ * </pre>
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private merge steps).
+ */
+public class ReportMerger {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Merge shard directories from the command line.
+     *
+     * @param args The output directory followed by one or more shard directories.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ReportMerger <output-dir> <shard-dir>...");
+        }
+        merge(Paths.get(args[0]), Arrays.stream(args).skip(1).map(Paths::get).collect(Collectors.toList()));
+    }
+
+    /**
+     * Merge shard directories into one report.
+     *
+     * @param outputDir The directory to write the merged report to.
+     * @param shardDirs The shard output directories.
+     * @return The merged summary, as written to {@code merged-summary.json}.
+     */
+    public static Map<String, Object> merge(Path outputDir, List<Path> shardDirs) {
+        try {
+            Files.createDirectories(outputDir.resolve("screenshots"));
+            ExtentReports extent = new ExtentReports();
+            extent.attachReporter(new ExtentSparkReporter(outputDir.resolve(ReportUtils.REPORT_FILE).toString()));
+            Map<Long, ExtentTest> openTests = new HashMap<>();
+            Map<Long, String> outcomes = new HashMap<>();
+
+            List<List<ReportEvent>> shardEvents = new ArrayList<>();
+            for (Path shardDir : shardDirs) {
+                shardEvents.add(read(shardDir.resolve(ReportUtils.EVENT_LOG_FILE)));
+            }
+            int[] next = new int[shardDirs.size()];
+            long seq = 0;
+            try (BufferedWriter log = Files.newBufferedWriter(outputDir.resolve(ReportUtils.EVENT_LOG_FILE),
+                    StandardCharsets.UTF_8)) {
+                int shard;
+                while ((shard = earliest(shardEvents, next)) >= 0) {
+                    ReportEvent event = remap(shardEvents.get(shard).get(next[shard]++), shard, shardDirs.get(shard),
+                            outputDir, ++seq);
+                    if ("pass".equals(event.type()) || "fail".equals(event.type()) || "skip".equals(event.type())) {
+                        outcomes.put(event.testId(), event.type());
+                    }
+                    event.applyTo(extent, openTests);
+                    log.write(mapper.writeValueAsString(event));
+                    log.newLine();
+                }
+            }
+            extent.setSystemInfo("Merged shards", shardDirs.stream().map(dir -> dir.getFileName().toString())
+                    .collect(Collectors.joining(", ")));
+            extent.flush();
+
+            for (Path shardDir : shardDirs) {
+                Path history = shardDir.resolve("test-history.json");
+                if (Files.exists(history)) {
+                    TestHistory.merge(history);
+                }
+            }
+            Map<String, Object> summary = summarize(shardDirs, shardEvents, outcomes);
+            mapper.enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(outputDir.resolve("merged-summary.json").toFile(), summary);
+            LoggerUtil.info("Merged " + shardDirs.size() + " shard(s) into " + outputDir + ": " + summary.get("tests")
+                    + " tests, " + summary.get("failed") + " failed");
+            return summary;
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to merge shard reports into " + outputDir, e);
+            throw new RuntimeException("Failed to merge shard reports", e);
+        }
+    }
+
+    /**
+     * Pick the shard whose next event is the oldest. Each shard's events stay in their own order.
+     */
+    private static int earliest(List<List<ReportEvent>> shardEvents, int[] next) {
+        int earliest = -1;
+        for (int shard = 0; shard < shardEvents.size(); shard++) {
+            List<ReportEvent> events = shardEvents.get(shard);
+            if (next[shard] < events.size() && (earliest < 0
+                    || events.get(next[shard]).timestamp() < shardEvents.get(earliest).get(next[earliest]).timestamp())) {
+                earliest = shard;
+            }
+        }
+        return earliest;
+    }
+
+    private static ReportEvent remap(ReportEvent event, int shard, Path shardDir, Path outputDir, long seq)
+            throws IOException {
+        long testId = event.testId() == 0 ? 0 : ((long) (shard + 1) << 40) | event.testId();
+        String name = event.name();
+        String message = event.message();
+        if ("system".equals(event.type())) {
+            name = "[" + shardDir.getFileName() + "] " + name;
+        } else if ("screenshot".equals(event.type()) && message != null) {
+            message = copyScreenshot(shardDir, message, outputDir);
+        }
+        return new ReportEvent(seq, event.timestamp(), testId, name, event.type(), message, event.detail(),
+                event.thread());
+    }
+
+    /**
+     * Copy a screenshot next to the merged report and return its path relative to the report. The
+     * recorded path is relative to the shard's working directory; if that is not reachable from here,
+     * the file is looked up in the shard's {@code screenshots} directory.
+     */
+    private static String copyScreenshot(Path shardDir, String recorded, Path outputDir) throws IOException {
+        Path fileName = Paths.get(recorded).getFileName();
+        Path source = Paths.get(recorded);
+        if (!Files.exists(source)) {
+            source = shardDir.resolve("screenshots").resolve(fileName);
+        }
+        if (!Files.exists(source)) {
+            LoggerUtil.warn("Screenshot " + recorded + " not found in " + shardDir);
+            return recorded;
+        }
+        Path target = outputDir.resolve("screenshots").resolve(fileName);
+        if (!Files.exists(target)) {
+            Files.copy(source, target);
+        }
+        return "screenshots/" + fileName;
+    }
+
+    private static List<ReportEvent> read(Path eventLog) throws IOException {
+        List<ReportEvent> events = new ArrayList<>();
+        if (!Files.exists(eventLog)) {
+            LoggerUtil.warn("No event log at " + eventLog);
+            return events;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(eventLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    events.add(mapper.readValue(line, ReportEvent.class));
+                }
+            }
+        }
+        events.sort(Comparator.comparingLong(ReportEvent::seq));
+        return events;
+    }
+
+    private static Map<String, Object> summarize(List<Path> shardDirs, List<List<ReportEvent>> shardEvents,
+                                                 Map<Long, String> outcomes) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        List<Map<String, Object>> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardDirs.size(); shard++) {
+            long shardNumber = shard + 1;
+            Map<String, Object> counts = new LinkedHashMap<>();
+            counts.put("dir", shardDirs.get(shard).toString());
+            counts.put("events", shardEvents.get(shard).size());
+            count(counts, outcomes.entrySet().stream()
+                    .filter(entry -> entry.getKey() >>> 40 == shardNumber)
+                    .map(Map.Entry::getValue)
+                    .collect(Collectors.toList()));
+            shards.add(counts);
+        }
+        count(summary, new ArrayList<>(outcomes.values()));
+        summary.put("shards", shards);
+        return summary;
+    }
+
+    private static void count(Map<String, Object> counts, List<String> outcomes) {
+        counts.put("tests", outcomes.size());
+        counts.put("passed", outcomes.stream().filter("pass"::equals).count());
+        counts.put("failed", outcomes.stream().filter("fail"::equals).count());
+        counts.put("skipped", outcomes.stream().filter("skip"::equals).count());
+    }
+}
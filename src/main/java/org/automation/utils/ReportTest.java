@@ -0,0 +1,125 @@
+package org.automation.utils;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handle to one test node in the report. Every call only enqueues an event for the report writer
+ * thread, so logging from parallel test threads never contends on the Extent model or the disk.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private test id), Facade pattern.
+ */
+public class ReportTest {
+    private final long id;
+    private final String name;
+    private volatile CompletableFuture<?> pending = CompletableFuture.completedFuture(null);
+
+    ReportTest(long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Log an info entry on this test.
+     *
+     * @param message The message to log.
+     * @return This test, for chaining.
+     */
+    public ReportTest info(String message) {
+        ReportUtils.enqueue(id, name, "info", message, null);
+        return this;
+    }
+
+    /**
+     * Log a warning entry on this test.
+     *
+     * @param message The message to log.
+     * @return This test, for chaining.
+     */
+    public ReportTest warning(String message) {
+        ReportUtils.enqueue(id, name, "warning", message, null);
+        return this;
+    }
+
+    /**
+     * Mark this test as passed.
+     *
+     * @param message The message to log.
+     * @return This test, for chaining.
+     */
+    public ReportTest pass(String message) {
+        ReportUtils.enqueue(id, name, "pass", message, null);
+        return this;
+    }
+
+    /**
+     * Mark this test as failed.
+     *
+     * @param message The message to log.
+     * @param t       The cause of the failure, or null.
+     * @return This test, for chaining.
+     */
+    public ReportTest fail(String message, Throwable t) {
+        ReportUtils.enqueue(id, name, "fail", message, t == null ? null : stackTrace(t));
+        return this;
+    }
+
+    /**
+     * Mark this test as skipped.
+     *
+     * @param message The message to log.
+     * @return This test, for chaining.
+     */
+    public ReportTest skip(String message) {
+        ReportUtils.enqueue(id, name, "skip", message, null);
+        return this;
+    }
+
+    /**
+     * Attach a screenshot already written to disk.
+     *
+     * @param path The path of the screenshot file.
+     * @return This test, for chaining.
+     */
+    public ReportTest addScreenCaptureFromPath(String path) {
+        ReportUtils.enqueue(id, name, "screenshot", path, null);
+        return this;
+    }
+
+    /**
+     * Attach a screenshot that is still being written in the background. It is added to the test
+     * when the write completes, and is skipped if the screenshot was dropped.
+     *
+     * @param path A future for the path of the screenshot file.
+     * @return This test, for chaining.
+     */
+    public ReportTest addScreenCapture(CompletableFuture<String> path) {
+        CompletableFuture<Void> attached = path.handle((screenshot, failure) -> {
+            if (screenshot != null) {
+                ReportUtils.enqueue(id, name, "screenshot", screenshot, null);
+            }
+            return null;
+        });
+        pending = CompletableFuture.allOf(pending, attached);
+        return this;
+    }
+
+    /**
+     * Mark this test as finished, so the writer can let go of its node. Waits in the background for
+     * pending screenshots, without blocking the caller.
+     */
+    public void end() {
+        pending.whenComplete((ignored, failure) -> ReportUtils.enqueue(id, name, "end", null, null));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static String stackTrace(Throwable t) {
+        StringWriter out = new StringWriter();
+        t.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+}
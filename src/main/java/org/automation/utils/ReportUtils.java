@@ -3,36 +3,159 @@ package org.automation.utils;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for handling Extent Reports.
+ * <p>
+ * Test threads only append events to a lock-free queue. A single writer thread drains the queue
+ * every {@code report.flushIntervalSeconds}, applies the events to the Extent model, appends them
+ * to a JSONL event log next to the HTML report and rewrites the HTML. Partial results are on disk
+ * within one interval, so an aborted run still leaves a usable report. With {@code report.html=false}
+ * only the JSONL log is written and memory stays flat regardless of suite size. Both go to
+ * {@link SuiteShard#outputDir()}.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (static methods), Utility pattern.
  */
 public class ReportUtils {
+    static final String REPORT_FILE = "ExtentReport.html";
+    static final String EVENT_LOG_FILE = "ExtentReport-events.jsonl";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Queue<ReportEvent> events = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final AtomicLong testIds = new AtomicLong();
+    private static final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only touched on the writer thread
+    private static final Map<Long, ExtentTest> openTests = new HashMap<>();
     private static ExtentReports extent;
+    private static BufferedWriter eventLog;
 
     static {
-        ExtentSparkReporter spark = new ExtentSparkReporter("target/ExtentReport.html");
-        extent = new ExtentReports();
-        extent.attachReporter(spark);
+        boolean html = ConfigurationManager.get(ConfigKeys.REPORT_HTML);
+        if (html) {
+            extent = new ExtentReports();
+            extent.attachReporter(new ExtentSparkReporter(SuiteShard.outputDir().resolve(REPORT_FILE).toString()));
+        }
+        try {
+            Path path = SuiteShard.outputDir().resolve(EVENT_LOG_FILE);
+            Files.createDirectories(path.getParent());
+            eventLog = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to open report event log", e);
+        }
+        long interval = ConfigurationManager.get(ConfigKeys.REPORT_FLUSH_INTERVAL).toSeconds();
+        writer.scheduleWithFixedDelay(ReportUtils::drain, interval, interval, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(ReportUtils::flush, "report-flush"));
         LoggerUtil.info("Extent Reports initialized");
     }
 
     /**
-     * Create a new ExtentTest for a given test name.
+     * Create a new test node for a given test name.
      *
      * @param testName The name of the test.
-     * @return The ExtentTest instance.
+     * @return The handle used to log to the test.
      */
-    public static ExtentTest createTest(String testName) {
-        return extent.createTest(testName);
+    public static ReportTest createTest(String testName) {
+        long id = testIds.incrementAndGet();
+        enqueue(id, testName, "create", null, null);
+        return new ReportTest(id, testName);
     }
 
     /**
-     * Flush the Extent Reports to save the report.
+     * Add a key/value pair to the system info section of the report.
+     *
+     * @param key   The name of the entry.
+     * @param value The value of the entry.
+     */
+    public static void setSystemInfo(String key, String value) {
+        enqueue(0, key, "system", value, null);
+    }
+
+    /**
+     * Write every queued event and the HTML report to disk, waiting until it is done.
      */
     public static void flush() {
-        extent.flush();
-        LoggerUtil.info("Extent Reports flushed");
+        try {
+            writer.submit(ReportUtils::drain).get();
+            LoggerUtil.info("Extent Reports flushed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            LoggerUtil.error("Failed to flush Extent Reports", e);
+        }
     }
+
+    static void enqueue(long testId, String name, String type, String message, String detail) {
+        events.add(new ReportEvent(sequence.incrementAndGet(), System.currentTimeMillis(), testId, name, type,
+                message, detail, Thread.currentThread().getName()));
+    }
+
+    /**
+     * Runs on the writer thread: applies queued events to the report and persists them.
+     */
+    private static void drain() {
+        boolean changed = false;
+        ReportEvent event;
+        while ((event = events.poll()) != null) {
+            changed = true;
+            writeEvent(event);
+            if (extent != null) {
+                try {
+                    event.applyTo(extent, openTests);
+                } catch (RuntimeException e) {
+                    LoggerUtil.error("Failed to apply report event " + event.type() + " for " + event.name(), e);
+                }
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        try {
+            if (eventLog != null) {
+                eventLog.flush();
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write report event log", e);
+        }
+        if (extent != null) {
+            extent.flush();
+        }
+    }
+
+    private static void writeEvent(ReportEvent event) {
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.write(mapper.writeValueAsString(event));
+            eventLog.newLine();
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to write report event log", e);
+        }
+    }
+
 }
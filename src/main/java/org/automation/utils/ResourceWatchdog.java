@@ -0,0 +1,323 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Background sampler of browser and JVM resource use that recycles browsers which have grown too big.
+ * <p>
+ * Every {@code watchdog.intervalSeconds}, it reads the resident memory ({@link HostCapacity#residentBytes})
+ * and CPU time of each local browser's process tree from {@code /proc}, plus the JVM heap and the GC
+ * time since the last sample. Chrome and Edge browsers are found by the {@code userDataDir} they
+ * report in their capabilities, Firefox by {@code moz:processID}; remote sessions only contribute
+ * the JVM figures. Each sample is appended as one JSON line to {@code resource-usage.jsonl} in
+ * {@link SuiteShard#outputDir()}, so slowdowns can be lined up with resource use afterwards.
+ * <p>
+ * A browser whose tree passes {@code watchdog.maxRssMb} is marked for recycling: the
+ * {@link DriverPool} quits it instead of reusing it the next time a test releases it, so it is
+ * never swapped out in the middle of a test. A heap above {@code watchdog.maxHeapPercent} is logged.
+ * Off with {@code watchdog.enabled=false}, and a no-op on a grid (the browsers are remote) or without
+ * {@code /proc}.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private sampling state), Observer pattern.
+ */
+public class ResourceWatchdog {
+    private static final String EXPORT_FILE = "resource-usage.jsonl";
+    private static final long MB = 1024L * 1024L;
+    private static final double CLOCK_TICKS_PER_SECOND = 100.0;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+    private static final AtomicInteger recycled = new AtomicInteger();
+    private static ScheduledExecutorService sampler;
+    private static BufferedWriter series;
+    private static long samples;
+    private static long lastGcMillis;
+    private static long totalGcMillis;
+    private static long peakHeapBytes;
+    private static long peakBrowserBytes;
+    private static boolean heapWarned;
+
+    /**
+     * What is known about one browser session's processes.
+     */
+    private static final class Session {
+        private final String id;
+        private final long startedNanos = System.nanoTime();
+        private final Map<String, ?> capabilities;
+        private long rootPid;
+        private long lastCpuTicks = -1;
+        private long lastSampleNanos;
+        private volatile boolean recycle;
+
+        private Session(String id, Map<String, ?> capabilities) {
+            this.id = id;
+            this.capabilities = capabilities;
+        }
+    }
+
+    /**
+     * Start watching a newly launched driver, starting the sampler on first use.
+     *
+     * @param driver The raw (undecorated) driver.
+     */
+    public static void register(WebDriver driver) {
+        if (!ConfigurationManager.get(ConfigKeys.WATCHDOG_ENABLED) || GridRouter.isEnabled()
+                || !Files.isDirectory(Paths.get("/proc"))) {
+            return;
+        }
+        String id = driver instanceof RemoteWebDriver remote && remote.getSessionId() != null
+                ? remote.getSessionId().toString() : Integer.toHexString(System.identityHashCode(driver));
+        Map<String, ?> capabilities = driver instanceof HasCapabilities hasCapabilities
+                ? hasCapabilities.getCapabilities().asMap() : Map.of();
+        sessions.put(driver, new Session(id, capabilities));
+        start();
+    }
+
+    /**
+     * Stop watching a driver that has been quit.
+     *
+     * @param driver The raw driver.
+     */
+    public static void unregister(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    /**
+     * Tell whether a driver crossed the resource limits and should be quit rather than reused.
+     *
+     * @param driver The raw driver.
+     * @return True if the driver should be recycled.
+     */
+    public static boolean shouldRecycle(WebDriver driver) {
+        Session session = sessions.get(driver);
+        if (session == null || !session.recycle) {
+            return false;
+        }
+        recycled.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Take a last sample, stop sampling and publish the peaks to the report.
+     */
+    public static synchronized void stop() {
+        if (sampler == null) {
+            return;
+        }
+        sampler.shutdownNow();
+        sample();
+        try {
+            series.close();
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to close resource time series", e);
+        }
+        sampler = null;
+        ReportUtils.setSystemInfo("Resource watchdog", samples + " samples, peak browser tree "
+                + peakBrowserBytes / MB + " MB, peak heap " + peakHeapBytes / MB + " MB, GC " + totalGcMillis
+                + " ms, " + recycled.get() + " browser(s) recycled");
+        LoggerUtil.info("Resource watchdog stopped after {} samples", samples);
+    }
+
+    private static synchronized void start() {
+        if (sampler != null) {
+            return;
+        }
+        try {
+            Path path = SuiteShard.outputDir().resolve(EXPORT_FILE);
+            Files.createDirectories(path.getParent());
+            series = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to open resource time series; watchdog disabled", e);
+            return;
+        }
+        lastGcMillis = gcMillis();
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "resource-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = ConfigurationManager.get(ConfigKeys.WATCHDOG_INTERVAL).toMillis();
+        sampler.scheduleAtFixedRate(ResourceWatchdog::sample, interval, interval, TimeUnit.MILLISECONDS);
+        LoggerUtil.info("Resource watchdog sampling every {} ms", interval);
+    }
+
+    private static synchronized void sample() {
+        try {
+            long maxRssBytes = ConfigurationManager.get(ConfigKeys.WATCHDOG_MAX_RSS_MB) * MB;
+            List<Map<String, Object>> browsers = new ArrayList<>();
+            for (Session session : sessions.values()) {
+                Map<String, Object> browser = sampleSession(session);
+                if (browser == null) {
+                    continue;
+                }
+                browsers.add(browser);
+                long rss = (long) browser.get("rssMb") * MB;
+                peakBrowserBytes = Math.max(peakBrowserBytes, rss);
+                if (rss > maxRssBytes && !session.recycle) {
+                    session.recycle = true;
+                    LoggerUtil.warn("Browser session " + session.id + " uses " + rss / MB + " MB (limit "
+                            + maxRssBytes / MB + " MB); recycling it at its next release");
+                }
+            }
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+            long gc = gcMillis();
+            long gcDelta = gc - lastGcMillis;
+            lastGcMillis = gc;
+            totalGcMillis += gcDelta;
+            peakHeapBytes = Math.max(peakHeapBytes, heap.getUsed());
+            checkHeap(heap);
+
+            Map<String, Object> jvm = new LinkedHashMap<>();
+            jvm.put("heapUsedMb", heap.getUsed() / MB);
+            jvm.put("heapMaxMb", heap.getMax() / MB);
+            jvm.put("gcMillis", gcDelta);
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("time", Instant.now().toString());
+            line.put("jvm", jvm);
+            line.put("browsers", browsers);
+            series.write(mapper.writeValueAsString(line));
+            series.newLine();
+            series.flush();
+            samples++;
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.error("Resource sample failed", e);
+        }
+    }
+
+    private static Map<String, Object> sampleSession(Session session) {
+        if (session.rootPid == 0) {
+            session.rootPid = findRootPid(session);
+        }
+        if (session.rootPid < 0) {
+            return null;
+        }
+        List<Long> pids = ProcessHandle.of(session.rootPid)
+                .map(root -> Stream.concat(Stream.of(root), root.descendants()).map(ProcessHandle::pid).toList())
+                .orElse(List.of());
+        if (pids.isEmpty()) {
+            return null;
+        }
+        long rss = 0;
+        long cpuTicks = 0;
+        for (long pid : pids) {
+            rss += HostCapacity.residentBytes(pid);
+            cpuTicks += cpuTicks(pid);
+        }
+        long now = System.nanoTime();
+        Double cpuPercent = null;
+        if (session.lastCpuTicks >= 0) {
+            double seconds = (now - session.lastSampleNanos) / 1e9;
+            cpuPercent = Math.round((cpuTicks - session.lastCpuTicks) / CLOCK_TICKS_PER_SECOND / seconds * 1000) / 10.0;
+        }
+        session.lastCpuTicks = cpuTicks;
+        session.lastSampleNanos = now;
+        Map<String, Object> browser = new LinkedHashMap<>();
+        browser.put("session", session.id);
+        browser.put("pid", session.rootPid);
+        browser.put("processes", pids.size());
+        browser.put("rssMb", rss / MB);
+        browser.put("cpuPercent", cpuPercent);
+        browser.put("ageSeconds", TimeUnit.NANOSECONDS.toSeconds(now - session.startedNanos));
+        browser.put("recycle", session.recycle);
+        return browser;
+    }
+
+    /**
+     * Find the browser's main process among the processes this JVM started.
+     *
+     * @return The pid, or -1 if the browser is not a local process.
+     */
+    private static long findRootPid(Session session) {
+        Object firefoxPid = session.capabilities.get("moz:processID");
+        if (firefoxPid instanceof Number pid) {
+            return pid.longValue();
+        }
+        String userDataDir = null;
+        for (String vendor : List.of("chrome", "msedge")) {
+            if (session.capabilities.get(vendor) instanceof Map<?, ?> details && details.get("userDataDir") != null) {
+                userDataDir = "--user-data-dir=" + details.get("userDataDir");
+            }
+        }
+        if (userDataDir == null) {
+            return -1;
+        }
+        String flag = userDataDir;
+        // the browser process is the one with the profile flag whose parent is not a browser process too
+        return ProcessHandle.current().descendants()
+                .filter(process -> commandLine(process.pid()).contains(flag))
+                .filter(process -> process.parent().map(parent -> !commandLine(parent.pid()).contains(flag))
+                        .orElse(true))
+                .mapToLong(ProcessHandle::pid)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static String commandLine(long pid) {
+        try {
+            return new String(Files.readAllBytes(Paths.get("/proc", String.valueOf(pid), "cmdline")),
+                    StandardCharsets.UTF_8).replace('\0', ' ');
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * User plus system CPU time from {@code /proc/<pid>/stat}, in clock ticks. The command name can
+     * contain spaces, so fields are counted from its closing parenthesis.
+     */
+    private static long cpuTicks(long pid) {
+        try {
+            String stat = Files.readString(Paths.get("/proc", String.valueOf(pid), "stat"));
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return millis;
+    }
+
+    private static void checkHeap(MemoryUsage heap) {
+        if (heap.getMax() <= 0) {
+            return;
+        }
+        boolean over = heap.getUsed() * 100 / heap.getMax() > ConfigurationManager.get(ConfigKeys.WATCHDOG_MAX_HEAP_PERCENT);
+        if (over && !heapWarned) {
+            LoggerUtil.warn("JVM heap at " + heap.getUsed() / MB + " of " + heap.getMax() / MB
+                    + " MB; consider report.html=false to keep report events out of memory");
+        }
+        heapWarned = over;
+    }
+}
@@ -0,0 +1,179 @@
+package org.automation.utils;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background pipeline that turns raw PNG screenshots into compact files on disk.
+ * <p>
+ * The test thread only hands over the captured bytes. A bounded executor hashes them, downscales
+ * to {@code screenshot.maxDimension}, encodes as JPEG ({@code screenshot.quality}) or PNG and writes
+ * the result with NIO. Files are named by content hash, so identical failure screens are stored
+ * once. When the queue is full, new screenshots are dropped instead of blocking teardown.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private executor), Producer-Consumer pattern.
+ */
+public class ScreenshotPipeline {
+    private static final Path SCREENSHOT_DIR = SuiteShard.outputDir().resolve("screenshots");
+
+    private static final AtomicInteger threadIds = new AtomicInteger();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong deduplicated = new AtomicLong();
+    private static final Map<String, CompletableFuture<String>> byHash = new ConcurrentHashMap<>();
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            ConfigurationManager.get(ConfigKeys.SCREENSHOT_THREADS),
+            ConfigurationManager.get(ConfigKeys.SCREENSHOT_THREADS),
+            30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(ConfigurationManager.get(ConfigKeys.SCREENSHOT_QUEUE_SIZE)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer-" + threadIds.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Queue a captured PNG for encoding and storage.
+     *
+     * @param png      The raw PNG bytes returned by the driver.
+     * @param testName The name of the test, used for logging only.
+     * @return A future for the path of the stored file; completes with null if the screenshot was dropped.
+     */
+    public static CompletableFuture<String> submit(byte[] png, String testName) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(store(png).join());
+                } catch (RuntimeException e) {
+                    LoggerUtil.error("Failed to store screenshot for " + testName, e);
+                    result.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            LoggerUtil.warn("Screenshot queue full, dropped screenshot for " + testName);
+            result.complete(null);
+        }
+        return result;
+    }
+
+    /**
+     * Wait until every queued screenshot has been written, e.g. before the final report flush.
+     *
+     * @param timeoutSeconds The maximum time to wait.
+     */
+    public static void awaitIdle(long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while ((executor.getActiveCount() > 0 || !executor.getQueue().isEmpty()) && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        LoggerUtil.info("Screenshot pipeline idle: completed={} dropped={}", executor.getCompletedTaskCount(), dropped.get());
+        LoggerUtil.info("Screenshot pipeline deduplicated {} identical screenshot(s)", deduplicated.get());
+    }
+
+    private static CompletableFuture<String> store(byte[] png) {
+        String hash = sha256(png);
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = byHash.putIfAbsent(hash, created);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            return existing;
+        }
+        try {
+            boolean jpeg = !"png".equalsIgnoreCase(ConfigurationManager.get(ConfigKeys.SCREENSHOT_FORMAT));
+            Path target = SCREENSHOT_DIR.resolve(hash.substring(0, 16) + (jpeg ? ".jpg" : ".png"));
+            if (!Files.exists(target)) {
+                byte[] encoded = encode(downscale(ImageIO.read(new ByteArrayInputStream(png))), jpeg);
+                Files.createDirectories(SCREENSHOT_DIR);
+                Path temp = Files.createTempFile(SCREENSHOT_DIR, hash.substring(0, 16), ".tmp");
+                Files.write(temp, encoded);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                deduplicated.incrementAndGet();
+            }
+            LoggerUtil.info("Captured screenshot: {}", target);
+            created.complete(target.toString());
+        } catch (IOException | RuntimeException e) {
+            byHash.remove(hash);
+            created.completeExceptionally(e instanceof IOException ? new UncheckedIOException((IOException) e) : e);
+        }
+        return created;
+    }
+
+    private static BufferedImage downscale(BufferedImage image) throws IOException {
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable image");
+        }
+        int maxDimension = ConfigurationManager.get(ConfigKeys.SCREENSHOT_MAX_DIMENSION);
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        // JPEG has no alpha channel, so always redraw into an RGB image
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return scaled;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean jpeg) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!jpeg) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(ConfigurationManager.get(ConfigKeys.SCREENSHOT_QUALITY) / 100f);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Local HTTP stand-in for the site under test, for deterministic, network-free runs.
+ * <p>
+ * With {@code standin.mode=record} an embedded server on {@code 127.0.0.1} forwards every request
+ * to the real site and appends the exchange to an on-disk archive ({@code standin.archive}, by
+ * default {@code standin} under the history directory). With
+ * {@code standin.mode=replay} the same server answers from the archive and never touches the
+ * network. Tests open {@link #localUrl(String)} instead of {@code baseUrl}; absolute
+ * {@code https://host/...} links in HTML, CSS, JS and JSON bodies are rewritten to
+ * {@code /_h/host/...} on the stand-in, so subresources from other hosts are captured too. The
+ * server is also registered as the browsers' HTTP proxy through {@link BrowserProfile}. In replay,
+ * HTTPS traffic that escapes rewriting (e.g. URLs built in script) is sent to the proxy and refused,
+ * so nothing reaches the real site.
+ * <p>
+ * Replay matching is fuzzy: method, host and path must match, then the recording whose query
+ * parameters overlap most wins, ignoring {@code standin.ignoredParams} (cache busters), with ties
+ * going to the least-replayed recording. {@code standin.latencyMillis} and
+ * {@code standin.jitterMillis} add artificial latency for performance regression tests.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private archive state), Proxy pattern.
+ */
+public class SiteStandIn {
+    private static final String HOST_PREFIX = "/_h/";
+    private static final Pattern ABSOLUTE_HTTPS = Pattern.compile("https://([A-Za-z0-9.-]+)(?=[/\"'\\s)?#]|$)");
+    private static final Set<String> SKIPPED_HEADERS = Set.of("connection", "content-length", "content-encoding",
+            "transfer-encoding", "keep-alive", "strict-transport-security", "content-security-policy",
+            "alt-svc", "host", "upgrade", "expect", "proxy-connection", "te", "trailer");
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static volatile SiteStandIn instance;
+
+    private final String mode;
+    private final URI upstream;
+    private final Path archive;
+    private final Set<String> ignoredParams;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final Map<String, List<Candidate>> recordings = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong recorded = new AtomicLong();
+    private final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private HttpServer server;
+    private BufferedWriter index;
+
+    private SiteStandIn(String mode) {
+        this.mode = mode;
+        this.upstream = URI.create(ConfigurationManager.get(ConfigKeys.BASE_URL));
+        String archivePath = ConfigurationManager.get(ConfigKeys.STANDIN_ARCHIVE);
+        this.archive = archivePath.isBlank() ? HostCapacity.historyDir().resolve("standin") : Paths.get(archivePath);
+        this.ignoredParams = Arrays.stream(ConfigurationManager.get(ConfigKeys.STANDIN_IGNORED_PARAMS)
+                        .split(","))
+                .map(String::trim).filter(param -> !param.isEmpty()).collect(Collectors.toSet());
+        this.latencyMillis = ConfigurationManager.get(ConfigKeys.STANDIN_LATENCY_MILLIS);
+        this.jitterMillis = ConfigurationManager.get(ConfigKeys.STANDIN_JITTER_MILLIS);
+    }
+
+    /**
+     * Check whether a stand-in mode is configured.
+     *
+     * @return True if {@code standin.mode} is {@code record} or {@code replay}.
+     */
+    public static boolean isEnabled() {
+        String mode = ConfigurationManager.get(ConfigKeys.STANDIN_MODE);
+        return "record".equalsIgnoreCase(mode) || "replay".equalsIgnoreCase(mode);
+    }
+
+    /**
+     * Start the stand-in for the configured mode, once per JVM.
+     *
+     * @return The running stand-in.
+     */
+    public static SiteStandIn get() {
+        if (instance == null) {
+            synchronized (SiteStandIn.class) {
+                if (instance == null) {
+                    if (!isEnabled()) {
+                        throw new IllegalStateException("standin.mode must be record or replay");
+                    }
+                    SiteStandIn standIn = new SiteStandIn(ConfigurationManager.get(ConfigKeys.STANDIN_MODE).toLowerCase());
+                    standIn.start();
+                    instance = standIn;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Map a URL on the real site to the same URL on the stand-in, or return it unchanged when the
+     * stand-in is off.
+     *
+     * @param url The URL on the real site.
+     * @return The URL to open in the browser.
+     */
+    public static String localUrl(String url) {
+        return isEnabled() ? get().rewrite(url) : url;
+    }
+
+    /**
+     * Get the {@code host:port} the browsers should use as HTTP proxy.
+     *
+     * @return The proxy address.
+     */
+    public String proxyAddress() {
+        return "127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public boolean isReplay() {
+        return "replay".equals(mode);
+    }
+
+    /**
+     * Stop the stand-in, if one is running. The server's dispatcher thread is not a daemon, so this
+     * must run at the end of the suite for the JVM to exit.
+     */
+    public static void shutdown() {
+        SiteStandIn standIn;
+        synchronized (SiteStandIn.class) {
+            standIn = instance;
+            instance = null;
+        }
+        if (standIn != null) {
+            standIn.stop();
+        }
+    }
+
+    private void stop() {
+        server.stop(0);
+        try {
+            if (index != null) {
+                index.close();
+            }
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to close stand-in archive index", e);
+        }
+        LoggerUtil.info("Stand-in stopped ({} mode): {} served, {} missed, {} recorded",
+                mode, hits.get(), misses.get(), recorded.get());
+    }
+
+    private void start() {
+        try {
+            Files.createDirectories(archive.resolve("bodies"));
+            Path indexFile = archive.resolve("index.jsonl");
+            if (isReplay()) {
+                load(indexFile);
+            } else {
+                index = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    ConfigurationManager.get(ConfigKeys.STANDIN_PORT)), 0);
+            server.setExecutor(Executors.newCachedThreadPool(daemonThreads()));
+            server.createContext("/", this::handle);
+            server.start();
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to start site stand-in", e);
+            throw new RuntimeException("Failed to start site stand-in", e);
+        }
+        LoggerUtil.info("Stand-in started in {} mode on {}", mode, proxyAddress());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            serve(exchange);
+        }
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try {
+            if ("CONNECT".equalsIgnoreCase(exchange.getRequestMethod())) {
+                // HTTPS tunnels cannot be recorded or replayed; refusing them keeps replay offline
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            URI target = targetOf(exchange.getRequestURI());
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            Recording recording = isReplay()
+                    ? match(exchange.getRequestMethod(), target)
+                    : forward(exchange, target, requestBody);
+            if (recording == null) {
+                misses.incrementAndGet();
+                LoggerUtil.warn("Stand-in has no recording for " + exchange.getRequestMethod() + " " + target);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            hits.incrementAndGet();
+            injectLatency();
+            respond(exchange, recording);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.error("Stand-in failed to serve " + exchange.getRequestURI(), e);
+            if (exchange.getResponseCode() == -1) {
+                // nothing sent yet, so the browser can still be told; otherwise closing drops the response
+                exchange.sendResponseHeaders(502, -1);
+            }
+        }
+    }
+
+    /**
+     * Resolve the real URL for a request: {@code /_h/host/path} maps to another host, an absolute
+     * proxy-style URI is used as is, and anything else is a path on the site under test.
+     */
+    private URI targetOf(URI requestUri) {
+        String path = requestUri.getRawPath();
+        String query = requestUri.getRawQuery() == null ? "" : "?" + requestUri.getRawQuery();
+        if (requestUri.isAbsolute() && !isSelf(requestUri)) {
+            return requestUri;
+        }
+        if (path.startsWith(HOST_PREFIX)) {
+            String rest = path.substring(HOST_PREFIX.length());
+            int slash = rest.indexOf('/');
+            String host = slash < 0 ? rest : rest.substring(0, slash);
+            String hostPath = slash < 0 ? "/" : rest.substring(slash);
+            return URI.create("https://" + host + hostPath + query);
+        }
+        return upstream.resolve(path + query);
+    }
+
+    private boolean isSelf(URI uri) {
+        return uri.getPort() == server.getAddress().getPort()
+                && ("127.0.0.1".equals(uri.getHost()) || "localhost".equalsIgnoreCase(uri.getHost()));
+    }
+
+    private Recording forward(HttpExchange exchange, URI target, byte[] requestBody) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(target)
+                .timeout(Duration.ofSeconds(30))
+                .method(exchange.getRequestMethod(), requestBody.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase()) && !"accept-encoding".equalsIgnoreCase(name)) {
+                values.forEach(value -> request.header(name, value));
+            }
+        });
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while recording " + target, e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Cannot forward request for " + target, e);
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (!SKIPPED_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                headers.put(name, values);
+            }
+        });
+        String bodyFile = sha256(response.body()) + ".bin";
+        Path bodyPath = archive.resolve("bodies").resolve(bodyFile);
+        if (!Files.exists(bodyPath)) {
+            Files.write(bodyPath, response.body());
+        }
+        Recording recording = new Recording(exchange.getRequestMethod(), target.toString(), response.statusCode(),
+                headers, bodyFile);
+        synchronized (this) {
+            index.write(mapper.writeValueAsString(recording));
+            index.newLine();
+            index.flush();
+        }
+        recorded.incrementAndGet();
+        return recording;
+    }
+
+    private Recording match(String method, URI target) {
+        List<Candidate> candidates = recordings.get(method + " " + target.getHost() + target.getRawPath());
+        if (candidates == null) {
+            return null;
+        }
+        Map<String, String> wanted = queryParams(target);
+        Candidate best = null;
+        int bestScore = Integer.MIN_VALUE;
+        for (Candidate candidate : candidates) {
+            int score = 0;
+            for (Map.Entry<String, String> param : wanted.entrySet()) {
+                if (param.getValue().equals(candidate.params.get(param.getKey()))) {
+                    score += 2;
+                } else if (candidate.params.containsKey(param.getKey())) {
+                    score += 1;
+                }
+            }
+            score -= Math.abs(candidate.params.size() - wanted.size());
+            if (score > bestScore || (score == bestScore && candidate.replays.get() < best.replays.get())) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        best.replays.incrementAndGet();
+        return best.recording;
+    }
+
+    private Map<String, String> queryParams(URI uri) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (uri.getRawQuery() == null) {
+            return params;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            if (!ignoredParams.contains(name)) {
+                params.put(name, equals < 0 ? "" : pair.substring(equals + 1));
+            }
+        }
+        return params;
+    }
+
+    private void respond(HttpExchange exchange, Recording recording) throws IOException {
+        byte[] body = Files.readAllBytes(archive.resolve("bodies").resolve(recording.bodyFile()));
+        String contentType = "";
+        for (Map.Entry<String, List<String>> header : recording.headers().entrySet()) {
+            List<String> values = header.getValue();
+            if ("content-type".equalsIgnoreCase(header.getKey()) && !values.isEmpty()) {
+                contentType = values.get(0).toLowerCase();
+            }
+            if ("location".equalsIgnoreCase(header.getKey())) {
+                values = values.stream().map(this::rewrite).collect(Collectors.toList());
+            }
+            exchange.getResponseHeaders().put(header.getKey(), values);
+        }
+        if (isText(contentType)) {
+            body = rewrite(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        }
+        boolean noBody = "HEAD".equalsIgnoreCase(exchange.getRequestMethod())
+                || recording.status() == 204 || recording.status() == 304;
+        exchange.sendResponseHeaders(recording.status(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Point absolute URLs at the stand-in: the site under test maps to the stand-in root, every
+     * other {@code https://host} to {@code /_h/host}.
+     */
+    private String rewrite(String text) {
+        String local = "http://" + proxyAddress();
+        String origin = upstream.getScheme() + "://" + upstream.getRawAuthority();
+        Matcher matcher = ABSOLUTE_HTTPS.matcher(text.replace(origin, local));
+        StringBuilder out = new StringBuilder(text.length());
+        while (matcher.find()) {
+            String host = matcher.group(1);
+            String replacement = host.equalsIgnoreCase(upstream.getHost()) ? local : local + HOST_PREFIX + host;
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private static boolean isText(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("javascript") || contentType.contains("json")
+                || contentType.contains("xml");
+    }
+
+    private void injectLatency() {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void load(Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            throw new IOException("No stand-in archive to replay at " + indexFile + "; record one first");
+        }
+        for (String line : Files.readAllLines(indexFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Recording recording = mapper.readValue(line, Recording.class);
+            URI uri = URI.create(recording.url());
+            recordings.computeIfAbsent(recording.method() + " " + uri.getHost() + uri.getRawPath(),
+                    key -> new CopyOnWriteArrayList<>()).add(new Candidate(recording, queryParams(uri)));
+        }
+        LoggerUtil.info("Loaded {} recorded exchange(s) from {}", recordings.values().stream().mapToInt(List::size).sum(),
+                archive);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger ids = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "standin-" + ids.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * One recorded exchange, as stored in {@code index.jsonl}. The body lives in {@code bodies/},
+     * named by content hash.
+     */
+    record Recording(String method, String url, int status, Map<String, List<String>> headers, String bodyFile) {
+    }
+
+    /**
+     * A loaded recording plus how often it has been replayed, so repeated identical requests walk
+     * through successive recordings instead of always getting the first.
+     */
+    private static final class Candidate {
+        private final Recording recording;
+        private final Map<String, String> params;
+        private final AtomicInteger replays = new AtomicInteger();
+
+        private Candidate(Recording recording, Map<String, String> params) {
+            this.recording = recording;
+            this.params = params;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * Backend for TestNG {@code @DataProvider} methods over large JSONL/CSV/JSON datasets.
+ * <p>
+ * Rows are read lazily through {@link TestDataReader#streamRows(String)}, so only the current row
+ * is held in memory. Rows are sharded by index modulo across CI nodes ({@code data.shard.index} /
+ * {@code data.shard.count}) and, optionally, across thread lanes within a node. A run can resume
+ * from a row offset ({@code data.startRow}). Each invocation receives {@code (long rowIndex, T row)},
+ * so a failed row can be re-run by its index.
+ * <p>
+ * TestNG materializes every row of a {@code parallel = true} data provider before running any
+ * of them, so keep the provider sequential and parallelize with lanes instead: create one test
+ * instance per lane with {@code @Factory} and pass the lane to {@link #rows(String, Class, int, int)}.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private iterator state), Iterator pattern.
+ */
+public class StreamingDataProvider {
+
+    /**
+     * Stream the rows of a dataset for this node, bound to a typed record.
+     *
+     * @param location The classpath resource or file path of the dataset.
+     * @param type     The record class each row is bound to.
+     * @param <T>      The record type.
+     * @return A lazy iterator of {@code {rowIndex, row}} parameter arrays.
+     */
+    public static <T> Iterator<Object[]> rows(String location, Class<T> type) {
+        return rows(location, type, 0, 1);
+    }
+
+    /**
+     * Stream the rows of a dataset for one thread lane of this node, bound to a typed record.
+     *
+     * @param location The classpath resource or file path of the dataset.
+     * @param type     The record class each row is bound to.
+     * @param lane     The lane of this test instance, from 0 to {@code lanes - 1}.
+     * @param lanes    The number of lanes this node splits its shard into.
+     * @param <T>      The record type.
+     * @return A lazy iterator of {@code {rowIndex, row}} parameter arrays.
+     */
+    public static <T> Iterator<Object[]> rows(String location, Class<T> type, int lane, int lanes) {
+        int shardIndex = ConfigurationManager.get(ConfigKeys.DATA_SHARD_INDEX);
+        int shardCount = ConfigurationManager.get(ConfigKeys.DATA_SHARD_COUNT);
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount || lanes < 1 || lane < 0 || lane >= lanes) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + "/" + shardCount
+                    + " or lane " + lane + "/" + lanes);
+        }
+        long startRow = ConfigurationManager.get(ConfigKeys.DATA_START_ROW);
+        int stride = shardCount * lanes;
+        int slot = shardIndex * lanes + lane;
+        LoggerUtil.info("Streaming " + location + " as slot " + slot + " of " + stride + " from row " + startRow);
+        return new RowIterator<>(TestDataReader.streamRows(location), type, startRow, stride, slot);
+    }
+
+    /**
+     * Skips rows outside this slot and before the resume offset, and closes the file once drained.
+     */
+    private static final class RowIterator<T> implements Iterator<Object[]> {
+        private final Stream<JsonNode> stream;
+        private final Iterator<JsonNode> rows;
+        private final Class<T> type;
+        private final long startRow;
+        private final int stride;
+        private final int slot;
+        private long index = -1;
+        private Object[] next;
+        private boolean closed;
+
+        private RowIterator(Stream<JsonNode> stream, Class<T> type, long startRow, int stride, int slot) {
+            this.stream = stream;
+            this.rows = stream.iterator();
+            this.type = type;
+            this.startRow = startRow;
+            this.stride = stride;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !closed) {
+                if (!rows.hasNext()) {
+                    closed = true;
+                    stream.close();
+                    break;
+                }
+                JsonNode row = rows.next();
+                index++;
+                if (index >= startRow && index % stride == slot) {
+                    next = new Object[]{index, TestDataReader.bind(row, type)};
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] current = next;
+            next = null;
+            return current;
+        }
+    }
+}
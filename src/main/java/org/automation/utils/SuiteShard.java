@@ -0,0 +1,120 @@
+package org.automation.utils;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Which part of the suite this JVM runs when the suite is split across processes or CI nodes, and
+ * where it writes its results.
+ * <p>
+ * {@code shard.index} and {@code shard.count} are read from the command line first
+ * ({@code -Dshard.index=1 -Dshard.count=4}), then from the configuration file. Every shard computes
+ * the same split on its own, so no coordinator is needed: the split only depends on the test IDs and
+ * the pinned history snapshot ({@link TestHistory#pinned()}) all shards are given. Sharded runs
+ * write their report, event log and screenshots to {@code target/shard-<index>-of-<count>} (or
+ * {@code report.dir}), and {@link ReportMerger} combines those directories afterwards.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private helpers), Utility pattern.
+ */
+public class SuiteShard {
+    private static final double UNKNOWN_DEFAULT_MILLIS = 1_000;
+
+    /**
+     * Get this JVM's shard number, starting at 0.
+     *
+     * @return The shard index.
+     */
+    public static int index() {
+        int index = ConfigurationManager.get(ConfigKeys.SHARD_INDEX);
+        if (index < 0 || index >= count()) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (count() - 1) + ": " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Get the number of shards the suite is split into.
+     *
+     * @return The shard count, at least 1.
+     */
+    public static int count() {
+        return Math.max(1, ConfigurationManager.get(ConfigKeys.SHARD_COUNT));
+    }
+
+    public static boolean isSharded() {
+        return count() > 1;
+    }
+
+    /**
+     * Get the directory this JVM writes its report, event log, screenshots and timings to.
+     *
+     * @return {@code report.dir} if set, else {@code target/shard-<index>-of-<count>} when sharded,
+     * else {@code target}.
+     */
+    public static Path outputDir() {
+        String configured = ConfigurationManager.get(ConfigKeys.REPORT_DIR);
+        if (!configured.isBlank()) {
+            return Paths.get(configured.trim());
+        }
+        return isSharded() ? Paths.get("target", "shard-" + index() + "-of-" + count()) : Paths.get("target");
+    }
+
+    /**
+     * Pick this shard's items by greedy longest-processing-time balancing: items are taken longest
+     * first and each goes to the shard with the least estimated time so far. Items without an
+     * estimate count as the average of the known ones, so without any estimates the items are dealt
+     * out in ID order. Ties are broken by ID and shard number, so every shard given the same estimates
+     * computes the same split.
+     *
+     * @param items      The items to split, e.g. test methods.
+     * @param id         A stable ID for each item.
+     * @param estimate   The estimated duration of an item in milliseconds, or a negative value if unknown.
+     * @param <T>        The item type.
+     * @return The items assigned to this shard, in their original order.
+     */
+    public static <T> List<T> assign(List<T> items, Function<T, String> id, ToDoubleFunction<T> estimate) {
+        int shards = count();
+        if (shards == 1) {
+            return items;
+        }
+        double knownAverage = items.stream().mapToDouble(estimate).filter(millis -> millis >= 0).average()
+                .orElse(UNKNOWN_DEFAULT_MILLIS);
+        ToDoubleFunction<T> cost = item -> {
+            double millis = estimate.applyAsDouble(item);
+            return millis >= 0 ? millis : knownAverage;
+        };
+        List<T> byCost = new ArrayList<>(items);
+        byCost.sort(Comparator.comparingDouble(cost).reversed().thenComparing(id));
+        double[] load = new double[shards];
+        Set<T> mine = Collections.newSetFromMap(new IdentityHashMap<>());
+        int index = index();
+        for (T item : byCost) {
+            int target = 0;
+            for (int shard = 1; shard < shards; shard++) {
+                if (load[shard] < load[target]) {
+                    target = shard;
+                }
+            }
+            load[target] += cost.applyAsDouble(item);
+            if (target == index) {
+                mine.add(item);
+            }
+        }
+        List<T> inOrder = items.stream().filter(mine::contains).collect(Collectors.toList());
+        LoggerUtil.info("Shard " + index + " of " + shards + ": " + inOrder.size() + " of " + items.size()
+                + " item(s), estimated " + String.format("%.1f", load[index] / 1000) + " s");
+        return inOrder;
+    }
+}
@@ -1,32 +1,353 @@
 package org.automation.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility to read test data from JSON file.
  * <p>
+ * Each data file is parsed once into an immutable index keyed by test case ID and shared by all
+ * threads. Entries can be read as untyped maps or bound to record classes. Files too large to
+ * index can be read entry by entry with {@link #stream(String)} or searched with
+ * {@link #findTestData(String, String, Class)}, which never hold the whole document in memory.
+ * <p>
+ * A data file is either an object keyed by test case ID, or an array of objects carrying the ID in
+ * an {@code "id"} field. Row-oriented datasets (JSONL, CSV) are read lazily with
+ * {@link #streamRows(String)}. Locations are looked up on the classpath first, then on the file system.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (private static mapper), Utility pattern.
  */
 public class TestDataReader {
-    private static final ObjectMapper mapper = new ObjectMapper();
+    public static final String DEFAULT_DATA_FILE = "TestData/testdata.json";
+    private static final String ID_FIELD = "id";
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final Map<String, Map<String, JsonNode>> indexes = new ConcurrentHashMap<>();
+    private static final Map<String, Object> typedCache = new ConcurrentHashMap<>();
 
     /**
-     * Read test data from JSON file.
+     * Read test data from the default JSON file.
      *
      * @param testCaseId The ID of the test case.
-     * @return A map containing the test data.
+     * @return An unmodifiable map containing the test data, or null if the ID is unknown.
      */
     public static Map<String, Object> getTestData(String testCaseId) {
+        return getTestData(DEFAULT_DATA_FILE, testCaseId);
+    }
+
+    /**
+     * Read test data from the given JSON file.
+     *
+     * @param location   The classpath resource or file path of the data file.
+     * @param testCaseId The ID of the test case.
+     * @return An unmodifiable map containing the test data, or null if the ID is unknown.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> getTestData(String location, String testCaseId) {
+        JsonNode node = index(location).get(testCaseId);
+        if (node == null) {
+            return null;
+        }
+        return Collections.unmodifiableMap(mapper.convertValue(node, Map.class));
+    }
+
+    /**
+     * Read test data from the default JSON file bound to a typed record.
+     *
+     * @param testCaseId The ID of the test case.
+     * @param type       The class to bind the entry to; should be immutable, as instances are shared.
+     * @param <T>        The record type.
+     * @return The bound record, or null if the ID is unknown.
+     */
+    public static <T> T getTestData(String testCaseId, Class<T> type) {
+        return getTestData(DEFAULT_DATA_FILE, testCaseId, type);
+    }
+
+    /**
+     * Read test data from the given JSON file bound to a typed record. Bound instances are cached.
+     *
+     * @param location   The classpath resource or file path of the data file.
+     * @param testCaseId The ID of the test case.
+     * @param type       The class to bind the entry to; should be immutable, as instances are shared.
+     * @param <T>        The record type.
+     * @return The bound record, or null if the ID is unknown.
+     */
+    public static <T> T getTestData(String location, String testCaseId, Class<T> type) {
+        JsonNode node = index(location).get(testCaseId);
+        if (node == null) {
+            return null;
+        }
+        String cacheKey = location + '\u0000' + testCaseId + '\u0000' + type.getName();
+        return type.cast(typedCache.computeIfAbsent(cacheKey, key -> bind(node, type)));
+    }
+
+    /**
+     * Find one entry by scanning the file with a streaming parser, without building an index.
+     * Stops reading as soon as the entry is found.
+     *
+     * @param location   The classpath resource or file path of the data file.
+     * @param testCaseId The ID of the test case.
+     * @param type       The class to bind the entry to.
+     * @param <T>        The record type.
+     * @return The bound record, or null if the ID is not in the file.
+     */
+    public static <T> T findTestData(String location, String testCaseId, Class<T> type) {
+        try (Stream<Map.Entry<String, JsonNode>> entries = stream(location)) {
+            return entries.filter(entry -> testCaseId.equals(entry.getKey()))
+                    .findFirst()
+                    .map(entry -> bind(entry.getValue(), type))
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * Stream the entries of a data file one at a time with a Jackson {@link JsonParser}. Only the
+     * current entry is held in memory. The stream must be closed to release the file.
+     *
+     * @param location The classpath resource or file path of the data file.
+     * @return A lazy stream of (test case ID, entry) pairs in file order.
+     */
+    public static Stream<Map.Entry<String, JsonNode>> stream(String location) {
+        InputStream in = open(location);
         try {
-            Map<String, Map<String, Object>> data = mapper.readValue(TestDataReader.class.getClassLoader().getResourceAsStream("testdata/testdata.json"), Map.class);
-            LoggerUtil.info("Loaded test data for test case: " + testCaseId);
-            return data.get(testCaseId);
+            JsonParser parser = mapper.getFactory().createParser(in);
+            EntryIterator iterator = new EntryIterator(parser, location);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(iterator::close);
         } catch (IOException e) {
+            closeQuietly(in);
             LoggerUtil.error("Failed to read test data", e);
             throw new RuntimeException("Failed to read test data", e);
         }
     }
+
+    /**
+     * Stream the rows of a dataset lazily, one row in memory at a time. The format follows the
+     * file extension: {@code .jsonl} holds one JSON object per line, {@code .csv} has a header row
+     * naming the fields (quoted fields may not span lines), anything else is read like
+     * {@link #stream(String)}. The stream must be closed to release the file.
+     *
+     * @param location The classpath resource or file path of the dataset.
+     * @return A lazy stream of rows in file order.
+     */
+    public static Stream<JsonNode> streamRows(String location) {
+        String lower = location.toLowerCase();
+        if (!lower.endsWith(".jsonl") && !lower.endsWith(".csv")) {
+            return stream(location).map(Map.Entry::getValue);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(open(location), StandardCharsets.UTF_8));
+        Stream<String> lines = reader.lines().filter(line -> !line.isBlank());
+        Stream<JsonNode> rows;
+        if (lower.endsWith(".jsonl")) {
+            rows = lines.map(line -> parseJsonLine(line, location));
+        } else {
+            Iterator<String> iterator = lines.iterator();
+            List<String> header = iterator.hasNext() ? parseCsvLine(iterator.next()) : List.of();
+            rows = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                    .map(line -> toCsvRow(header, parseCsvLine(line)));
+        }
+        return rows.onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                LoggerUtil.error("Failed to close test data file: " + location, e);
+            }
+        });
+    }
+
+    /**
+     * Bind a row read from a data file to a typed record.
+     *
+     * @param node The JSON row.
+     * @param type The class to bind the row to.
+     * @param <T>  The record type.
+     * @return The bound record.
+     */
+    public static <T> T bind(JsonNode node, Class<T> type) {
+        try {
+            return mapper.treeToValue(node, type);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to bind test data to " + type.getSimpleName(), e);
+            throw new RuntimeException("Failed to bind test data to " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Open a data file from the classpath, falling back to the file system.
+     *
+     * @param location The classpath resource or file path.
+     * @return An open input stream the caller must close.
+     */
+    static InputStream open(String location) {
+        InputStream resource = TestDataReader.class.getClassLoader().getResourceAsStream(location);
+        if (resource != null) {
+            return resource;
+        }
+        Path path = Paths.get(location);
+        try {
+            return Files.newInputStream(path);
+        } catch (IOException e) {
+            LoggerUtil.error("Test data file not found: " + location, e);
+            throw new RuntimeException("Test data file not found: " + location, e);
+        }
+    }
+
+    private static Map<String, JsonNode> index(String location) {
+        return indexes.computeIfAbsent(location, TestDataReader::load);
+    }
+
+    private static Map<String, JsonNode> load(String location) {
+        Map<String, JsonNode> entries = new LinkedHashMap<>();
+        try (Stream<Map.Entry<String, JsonNode>> stream = stream(location)) {
+            stream.forEach(entry -> entries.put(entry.getKey(), entry.getValue()));
+        }
+        LoggerUtil.info("Indexed " + entries.size() + " test data entries from " + location);
+        return Collections.unmodifiableMap(entries);
+    }
+
+    private static JsonNode parseJsonLine(String line, String location) {
+        try {
+            return mapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to parse test data: " + location, e);
+        }
+    }
+
+    private static JsonNode toCsvRow(List<String> header, List<String> values) {
+        ObjectNode row = mapper.createObjectNode();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to close test data file", e);
+        }
+    }
+
+    /**
+     * Pulls one top-level entry at a time out of either supported file layout.
+     */
+    private static final class EntryIterator implements Iterator<Map.Entry<String, JsonNode>> {
+        private final JsonParser parser;
+        private final String location;
+        private final boolean keyedObject;
+        private Map.Entry<String, JsonNode> next;
+
+        private EntryIterator(JsonParser parser, String location) throws IOException {
+            this.parser = parser;
+            this.location = location;
+            JsonToken first = parser.nextToken();
+            if (first != JsonToken.START_OBJECT && first != JsonToken.START_ARRAY) {
+                throw new IOException("Test data file must hold a JSON object or array: " + location);
+            }
+            this.keyedObject = first == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<String, JsonNode> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<String, JsonNode> current = next;
+            next = null;
+            return current;
+        }
+
+        private Map.Entry<String, JsonNode> advance() {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                if (keyedObject) {
+                    String id = parser.currentName();
+                    parser.nextToken();
+                    return new AbstractMap.SimpleImmutableEntry<>(id, parser.readValueAsTree());
+                }
+                JsonNode row = parser.readValueAsTree();
+                return new AbstractMap.SimpleImmutableEntry<>(row.path(ID_FIELD).asText(null), row);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to parse test data: " + location, e);
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                LoggerUtil.error("Failed to close test data file: " + location, e);
+            }
+        }
+    }
 }
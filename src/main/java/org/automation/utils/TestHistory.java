@@ -0,0 +1,225 @@
+package org.automation.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Per-test duration and failure history, kept in {@code test-history.json} under
+ * {@link HostCapacity#historyDir()} between runs.
+ * <p>
+ * Durations and failure rates are exponentially weighted moving averages, so recent runs count most
+ * and one slow or failed run does not dominate. A test's duration is the total of all its
+ * invocations in a run, which is what a scheduler placing it on a thread needs. Runs on several
+ * machines can save into the same file: saving merges under a file lock. Shards do not save into it
+ * (see {@link #save()}), so the history they are split by stays fixed for the whole sharded run.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private run totals), Utility pattern.
+ */
+public class TestHistory {
+    private static final String HISTORY_FILE = "test-history.json";
+    private static final double WEIGHT = 0.3;
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final TypeReference<TreeMap<String, Stats>> HISTORY_TYPE = new TypeReference<>() {
+    };
+
+    private static final Map<String, RunTotals> currentRun = new ConcurrentHashMap<>();
+    private static volatile Map<String, Stats> snapshot;
+
+    /**
+     * History of one test.
+     *
+     * @param runs         The number of runs recorded.
+     * @param meanMillis   The moving average of the test's total time per run.
+     * @param failureRate  The moving average of failed runs, from 0 to 1.
+     * @param lastFailed   Whether the most recent run failed.
+     */
+    public record Stats(int runs, double meanMillis, double failureRate, boolean lastFailed) {
+    }
+
+    /**
+     * Get the history as it was on disk when first read in this JVM.
+     *
+     * @return The stats by test ID; empty if there is no history yet.
+     */
+    public static Map<String, Stats> load() {
+        if (snapshot == null) {
+            synchronized (TestHistory.class) {
+                if (snapshot == null) {
+                    snapshot = Collections.unmodifiableMap(read(file()));
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the history snapshot that sharded runs split the suite by: the {@code shard.historyFile}
+     * given to every shard, usually the history written by the previous merge step. Unlike
+     * {@link #load()}, it does not depend on when a shard started or which machine it runs on.
+     *
+     * @return The stats by test ID; empty if {@code shard.historyFile} is not set.
+     * @throws IllegalStateException If the file is set but cannot be read, since shards would then split differently.
+     */
+    public static Map<String, Stats> pinned() {
+        String configured = ConfigurationManager.get(ConfigKeys.SHARD_HISTORY_FILE);
+        if (configured.isBlank()) {
+            return Map.of();
+        }
+        Path file = Paths.get(configured.trim());
+        try {
+            return Collections.unmodifiableMap(mapper.readValue(file.toFile(), HISTORY_TYPE));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read shard.historyFile " + file, e);
+        }
+    }
+
+    /**
+     * Record one invocation of a test in the current run.
+     *
+     * @param testId The test ID, e.g. the fully qualified method name.
+     * @param millis The invocation's duration.
+     * @param failed Whether the invocation failed.
+     */
+    public static void record(String testId, long millis, boolean failed) {
+        RunTotals totals = currentRun.computeIfAbsent(testId, id -> new RunTotals());
+        totals.millis.add(millis);
+        if (failed) {
+            totals.failed = true;
+        }
+    }
+
+    /**
+     * Merge the current run into the history file and start a new run. Sharded runs leave the history
+     * file alone and only write the entries of this run to {@code test-history.json} in
+     * {@link SuiteShard#outputDir()}; {@link ReportMerger} folds them into the history afterwards.
+     */
+    public static void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        Map<String, Stats> updated = new TreeMap<>();
+        if (SuiteShard.isSharded()) {
+            Map<String, Stats> history = load();
+            currentRun.forEach((testId, totals) -> updated.put(testId, update(history.get(testId), totals)));
+            try {
+                Files.createDirectories(SuiteShard.outputDir());
+                mapper.writeValue(SuiteShard.outputDir().resolve(HISTORY_FILE).toFile(), updated);
+                LoggerUtil.info("Recorded shard history for {} test(s)", currentRun.size());
+                currentRun.clear();
+            } catch (IOException e) {
+                LoggerUtil.error("Failed to write shard test history", e);
+            }
+            return;
+        }
+        boolean saved = update(history -> {
+            for (Map.Entry<String, RunTotals> entry : currentRun.entrySet()) {
+                Stats stats = update(history.get(entry.getKey()), entry.getValue());
+                history.put(entry.getKey(), stats);
+                updated.put(entry.getKey(), stats);
+            }
+        });
+        if (!saved) {
+            return;
+        }
+        LoggerUtil.info("Recorded history for {} test(s)", currentRun.size());
+        currentRun.clear();
+    }
+
+    /**
+     * Merge history entries written by another run, e.g. a shard on another machine. An entry
+     * replaces the local one unless the local one has more runs.
+     *
+     * @param partial The {@code test-history.json} written by the other run.
+     */
+    public static void merge(Path partial) {
+        Map<String, Stats> entries = read(partial);
+        if (entries.isEmpty()) {
+            return;
+        }
+        update(history -> entries.forEach((testId, stats) -> {
+            Stats local = history.get(testId);
+            if (local == null || local.runs() <= stats.runs()) {
+                history.put(testId, stats);
+            }
+        }));
+    }
+
+    /**
+     * Read, change and rewrite the history file under a file lock, so concurrent runs on one
+     * machine do not lose each other's updates.
+     */
+    private static boolean update(Consumer<Map<String, Stats>> change) {
+        Path file = file();
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel lockChannel = FileChannel.open(file.resolveSibling(HISTORY_FILE + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    Map<String, Stats> history = read(file);
+                    change.accept(history);
+                    Path temp = file.resolveSibling(HISTORY_FILE + ".tmp");
+                    mapper.writeValue(temp.toFile(), history);
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    lock.release();
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to save test history", e);
+            return false;
+        }
+    }
+
+    private static Stats update(Stats previous, RunTotals run) {
+        double millis = run.millis.sum();
+        double failed = run.failed ? 1 : 0;
+        if (previous == null) {
+            return new Stats(1, millis, failed, run.failed);
+        }
+        return new Stats(previous.runs() + 1,
+                previous.meanMillis() + WEIGHT * (millis - previous.meanMillis()),
+                previous.failureRate() + WEIGHT * (failed - previous.failureRate()),
+                run.failed);
+    }
+
+    private static Map<String, Stats> read(Path file) {
+        if (!Files.isReadable(file)) {
+            return new TreeMap<>();
+        }
+        try {
+            return mapper.readValue(file.toFile(), HISTORY_TYPE);
+        } catch (IOException e) {
+            LoggerUtil.error("Failed to read test history from " + file + "; starting afresh", e);
+            return new TreeMap<>();
+        }
+    }
+
+    private static Path file() {
+        return HostCapacity.historyDir().resolve(HISTORY_FILE);
+    }
+
+    private static final class RunTotals {
+        private final LongAdder millis = new LongAdder();
+        private volatile boolean failed;
+    }
+}
@@ -1,27 +1,37 @@
 package org.automation.utils;
 
 import com.fasterxml.jackson.databind.ser.Serializers;
-import org.apache.commons.io.FileUtils;
 import org.automation.base.BasePage;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.io.File;
-import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.time.Duration;
-import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Utility class for common element interactions with built-in checks.
  * <p>
+ * Waits go through the calling thread's {@link WaitEngine}, so timeouts and polling come from configuration.
+ * Actions and page loads are timed into {@link InteractionTimer}.
+ * <p>
  * Demonstrates OOP principles: Encapsulation (static methods), Utility pattern.
  */
 public class Utils {
 
+    /**
+     * Navigates to a URL and logs how long the page took to load under the active {@link BrowserProfile}.
+     *
+     * @param driver The WebDriver instance.
+     * @param url    The URL to open.
+     */
+    public static void navigateTo(WebDriver driver, String url) {
+        long start = System.nanoTime();
+        driver.get(url);
+        InteractionTimer.recordPageLoad(url, start);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        LoggerUtil.info(() -> "Loaded " + url + " in " + millis + " ms with profile " + BrowserProfile.name());
+    }
+
     /**
      * Waits for the specified web element to be visible.
      *
@@ -29,9 +39,10 @@ public class Utils {
      * @param element The WebElement to wait for.
      */
     public static void waitForElementVisible(WebDriver driver, WebElement element) {
-        new WebDriverWait(driver, java.time.Duration.ofSeconds(10))
-                .until(ExpectedConditions.visibilityOf(element));
-        LoggerUtil.info("Waited for visibility of element: " + element.toString());
+        long start = System.nanoTime();
+        WaitEngine.of(driver).visible(element);
+        InteractionTimer.recordAction("waitForElementVisible", start);
+        LoggerUtil.info("Waited for visibility of element: {}", element);
     }
 
     /**
@@ -41,9 +52,10 @@ public class Utils {
      * @param element The WebElement to wait for.
      */
     public static void waitForElementClickable(WebDriver driver, WebElement element) {
-        new WebDriverWait(driver, java.time.Duration.ofSeconds(10))
-                .until(ExpectedConditions.elementToBeClickable(element));
-        LoggerUtil.info("Waited for clickability of element: " + element.toString());
+        long start = System.nanoTime();
+        WaitEngine.of(driver).clickable(element);
+        InteractionTimer.recordAction("waitForElementClickable", start);
+        LoggerUtil.info("Waited for clickability of element: {}", element);
     }
 
     /**
@@ -53,9 +65,11 @@ public class Utils {
      * @param element The WebElement to click.
      */
     public static void click(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         waitForElementClickable(driver, element);
         element.click();
-        LoggerUtil.info("Clicked element: " + element.toString());
+        InteractionTimer.recordAction("click", start);
+        LoggerUtil.info("Clicked element: {}", element);
     }
 
     /**
@@ -66,10 +80,12 @@ public class Utils {
      * @param text    The text to send.
      */
     public static void sendKeys(WebDriver driver, WebElement element, String text) {
+        long start = System.nanoTime();
         waitForElementVisible(driver, element);
         element.clear();
         element.sendKeys(text);
-        LoggerUtil.info("Sent text '" + text + "' to element: " + element.toString());
+        InteractionTimer.recordAction("sendKeys", start);
+        LoggerUtil.info("Sent text '{}' to element: {}", text, element);
     }
 
     /**
@@ -80,9 +96,11 @@ public class Utils {
      * @return The text of the element.
      */
     public static String getText(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         waitForElementVisible(driver, element);
         String text = element.getText();
-        LoggerUtil.info("Retrieved text '" + text + "' from element: " + element.toString());
+        InteractionTimer.recordAction("getText", start);
+        LoggerUtil.info("Retrieved text '{}' from element: {}", text, element);
         return text;
     }
 
@@ -96,7 +114,7 @@ public class Utils {
     public static boolean isDisplayed(WebDriver driver, WebElement element) {
         try {
             boolean displayed = element.isDisplayed();
-            LoggerUtil.info("Element is displayed: " + displayed);
+            LoggerUtil.info("Element is displayed: {}", displayed);
             return displayed;
         } catch (Exception e) {
             LoggerUtil.info("Element is not displayed");
@@ -111,9 +129,11 @@ public class Utils {
      * @param element The WebElement to click.
      */
     public static void jsClick(WebDriver driver, WebElement element) {
+        long start = System.nanoTime();
         JavascriptExecutor js = (JavascriptExecutor) driver;
         js.executeScript("arguments[0].click();", element);
-        LoggerUtil.info("Performed JavaScript click on element: " + element.toString());
+        InteractionTimer.recordAction("jsClick", start);
+        LoggerUtil.info("Performed JavaScript click on element: {}", element);
     }
 
     /**
@@ -124,10 +144,12 @@ public class Utils {
      * @param text     The visible text of the option to select.
      */
     public static void selectByVisibleText(WebDriver driver, WebElement dropdown, String text) {
+        long start = System.nanoTime();
         waitForElementVisible(driver, dropdown);
         Select select = new Select(dropdown);
         select.selectByVisibleText(text);
-        LoggerUtil.info("Selected option '" + text + "' from dropdown: " + dropdown.toString());
+        InteractionTimer.recordAction("selectByVisibleText", start);
+        LoggerUtil.info("Selected option '{}' from dropdown: {}", text, dropdown);
     }
 
     /**
@@ -138,10 +160,12 @@ public class Utils {
      * @param value    The value of the option to select.
      */
     public static void selectByValue(WebDriver driver, WebElement dropdown, String value) {
+        long start = System.nanoTime();
         waitForElementVisible(driver, dropdown);
         Select select = new Select(dropdown);
         select.selectByValue(value);
-        LoggerUtil.info("Selected option with value '" + value + "' from dropdown: " + dropdown.toString());
+        InteractionTimer.recordAction("selectByValue", start);
+        LoggerUtil.info("Selected option with value '{}' from dropdown: {}", value, dropdown);
     }
 
     /**
@@ -156,7 +180,7 @@ public class Utils {
         for (String window : allWindows) {
             if (!window.equals(parentWindow)) {
                 driver.switchTo().window(window);
-                LoggerUtil.info("Switched to new window: " + window);
+                LoggerUtil.info("Switched to new window: {}", window);
                 return window;
             }
         }
@@ -172,27 +196,35 @@ public class Utils {
      */
     public static void switchToParentWindow(WebDriver driver, String parentWindow) {
         driver.switchTo().window(parentWindow);
-        LoggerUtil.info("Switched back to parent window: " + parentWindow);
+        LoggerUtil.info("Switched back to parent window: {}", parentWindow);
     }
 
     /**
-     * Captures a screenshot and saves it to the target directory.
+     * Captures a screenshot and saves it to the target directory, waiting until it is written.
      *
      * @param driver   The WebDriver instance.
      * @param testName The name of the test.
-     * @return The path to the saved screenshot.
+     * @return The path to the saved screenshot, or null if it could not be stored.
      */
     public static String captureScreenshot(WebDriver driver, String testName) {
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String screenshotPath = "target/screenshots/" + testName + "_" + timestamp + ".png";
-        File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+        return captureScreenshotAsync(driver, testName).join();
+    }
+
+    /**
+     * Captures a screenshot in memory and hands it to the {@link ScreenshotPipeline} for encoding
+     * and storage. Only the capture itself runs on the calling thread.
+     *
+     * @param driver   The WebDriver instance.
+     * @param testName The name of the test.
+     * @return A future for the path to the saved screenshot; completes with null if it could not be stored.
+     */
+    public static CompletableFuture<String> captureScreenshotAsync(WebDriver driver, String testName) {
         try {
-            FileUtils.copyFile(screenshot, new File(screenshotPath));
-            LoggerUtil.info("Captured screenshot: " + screenshotPath);
-        } catch (IOException e) {
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return ScreenshotPipeline.submit(png, testName);
+        } catch (WebDriverException e) {
             LoggerUtil.error("Failed to capture screenshot", e);
+            return CompletableFuture.completedFuture(null);
         }
-        return screenshotPath;
     }
 }
-
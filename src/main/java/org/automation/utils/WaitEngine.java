@@ -0,0 +1,192 @@
+package org.automation.utils;
+
+import org.automation.config.ConfigKeys;
+import org.automation.config.ConfigurationManager;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Reusable wait engine for one WebDriver, replacing a new {@code WebDriverWait} per interaction.
+ * <p>
+ * Conditions are polled with adaptive backoff: the first re-check comes after
+ * {@code wait.initialPollMillis}, then the interval doubles up to {@code wait.maxPollMillis}. An
+ * element that is ready almost immediately is picked up within milliseconds instead of the fixed
+ * 500 ms of {@code WebDriverWait}, while long waits still poll sparingly.
+ * <p>
+ * With {@code wait.mode=browser}, element waits run inside the page as a single async script that
+ * resolves from a MutationObserver, costing one WebDriver round trip instead of one per poll.
+ * It falls back to polling, for the rest of the timeout, when the element is not in the DOM yet.
+ * <p>
+ * Demonstrates OOP principles: Encapsulation (private timing settings), Strategy pattern.
+ */
+public class WaitEngine {
+    private static final ThreadLocal<WaitEngine> current = new ThreadLocal<>();
+
+    private static final String BROWSER_WAIT_SCRIPT =
+            "var element = arguments[0], clickable = arguments[1], timeout = arguments[2];"
+            + "var done = arguments[arguments.length - 1];"
+            + "function ready() {"
+            + "  if (!element.isConnected) { return false; }"
+            + "  var style = window.getComputedStyle(element);"
+            + "  var rect = element.getBoundingClientRect();"
+            + "  var visible = style.visibility !== 'hidden' && style.display !== 'none' && rect.width > 0 && rect.height > 0;"
+            + "  return visible && (!clickable || !element.disabled);"
+            + "}"
+            + "if (ready()) { done(true); return; }"
+            + "var observer = new MutationObserver(function () {"
+            + "  if (ready()) { observer.disconnect(); clearTimeout(timer); done(true); }"
+            + "});"
+            + "observer.observe(document, {attributes: true, childList: true, subtree: true, characterData: true});"
+            + "var timer = setTimeout(function () { observer.disconnect(); done(ready()); }, timeout);";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final boolean browserMode;
+
+    /**
+     * Constructor to create a wait engine with timings from {@link ConfigurationManager}.
+     *
+     * @param driver The WebDriver instance.
+     */
+    public WaitEngine(WebDriver driver) {
+        this.driver = driver;
+        this.timeout = ConfigurationManager.get(ConfigKeys.WAIT_TIMEOUT);
+        this.initialPollMillis = ConfigurationManager.get(ConfigKeys.WAIT_INITIAL_POLL_MILLIS);
+        this.maxPollMillis = ConfigurationManager.get(ConfigKeys.WAIT_MAX_POLL_MILLIS);
+        this.browserMode = "browser".equalsIgnoreCase(ConfigurationManager.get(ConfigKeys.WAIT_MODE));
+    }
+
+    /**
+     * Get the wait engine for the given driver, reusing the current thread's engine when it
+     * belongs to the same driver.
+     *
+     * @param driver The WebDriver instance.
+     * @return The wait engine bound to the driver.
+     */
+    public static WaitEngine of(WebDriver driver) {
+        WaitEngine engine = current.get();
+        if (engine == null || engine.driver != driver) {
+            engine = new WaitEngine(driver);
+            current.set(engine);
+        }
+        return engine;
+    }
+
+    /**
+     * Waits until the condition returns a non-null, non-false value.
+     *
+     * @param condition The condition to evaluate, e.g. one of {@link ExpectedConditions}.
+     * @param <T>       The condition's result type.
+     * @return The condition's final result.
+     * @throws TimeoutException If the condition is not met within the configured timeout.
+     */
+    public <T> T until(Function<WebDriver, T> condition) {
+        return until(condition, System.nanoTime() + timeout.toNanos());
+    }
+
+    private <T> T until(Function<WebDriver, T> condition, long deadline) {
+        long pollMillis = initialPollMillis;
+        RuntimeException lastError = null;
+        while (true) {
+            try {
+                T result = condition.apply(driver);
+                if (result != null && !Boolean.FALSE.equals(result)) {
+                    return result;
+                }
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+            long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (remainingMillis <= 0) {
+                throw timedOut(condition, lastError);
+            }
+            sleep(Math.min(pollMillis, remainingMillis));
+            pollMillis = Math.min(pollMillis * 2, maxPollMillis);
+        }
+    }
+
+    /**
+     * Waits for the element to be visible.
+     *
+     * @param element The WebElement to wait for.
+     * @return The visible element.
+     */
+    public WebElement visible(WebElement element) {
+        return await(element, false, ExpectedConditions.visibilityOf(element));
+    }
+
+    /**
+     * Waits for the element to be visible and enabled.
+     *
+     * @param element The WebElement to wait for.
+     * @return The clickable element.
+     */
+    public WebElement clickable(WebElement element) {
+        return await(element, true, ExpectedConditions.elementToBeClickable(element));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Waits for an element in the browser when {@code wait.mode=browser}, polling for whatever time
+     * is left when the browser-side wait could not run. A browser-side wait that ran to its deadline
+     * is final, so a missing element costs one timeout, not two.
+     */
+    private WebElement await(WebElement element, boolean clickable, Function<WebDriver, WebElement> condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        if (browserMode) {
+            Boolean ready = awaitInBrowser(element, clickable);
+            if (Boolean.TRUE.equals(ready)) {
+                return element;
+            }
+            if (Boolean.FALSE.equals(ready)) {
+                throw timedOut(condition, null);
+            }
+        }
+        return until(condition, deadline);
+    }
+
+    /**
+     * Waits inside the page in one async script call. Returns whether the element became ready
+     * before the timeout, or null when the element cannot be handed to the browser yet.
+     */
+    private Boolean awaitInBrowser(WebElement element, boolean clickable) {
+        try {
+            Object ready = ((JavascriptExecutor) driver).executeAsyncScript(
+                    BROWSER_WAIT_SCRIPT, element, clickable, timeout.toMillis());
+            return Boolean.TRUE.equals(ready);
+        } catch (NoSuchElementException | StaleElementReferenceException | JavascriptException
+                 | ScriptTimeoutException e) {
+            LoggerUtil.debug("Browser-side wait unavailable, polling instead: {}", e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private TimeoutException timedOut(Object condition, RuntimeException lastError) {
+        return new TimeoutException("Expected condition failed: waiting for " + condition
+                + " (tried for " + timeout.toSeconds() + " second(s))", lastError);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package org.automation.tests;
 
 import org.automation.base.BaseTest;
-import org.automation.config.ConfigurationManager;
+import org.automation.data.FlightBookingData;
 import org.automation.pages.HomePage;
+import org.automation.pages.FlightResult;
 import org.automation.pages.FlightSearchPage;
 import org.automation.utils.LoggerUtil;
+import org.automation.utils.StreamingDataProvider;
 import org.automation.utils.TestDataReader;
+import org.automation.utils.Utils;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
-import java.util.Map;
+import java.util.Iterator;
 
 /**
  * Sample test class demonstrating flight booking automation on MakeMyTrip.
@@ -18,23 +23,67 @@ public class FlightBookingTest extends BaseTest {
     @Test
     public void testFlightBooking() {
         // Load test data
-        Map<String, Object> testData = TestDataReader.getTestData("flightBooking");
-        String fromCity = (String) testData.get("fromCity");
-        String toCity = (String) testData.get("toCity");
-        String departureDate = (String) testData.get("departureDate");
+        FlightBookingData testData = TestDataReader.getTestData("flightBooking", FlightBookingData.class);
+        String fromCity = testData.fromCity();
+        String toCity = testData.toCity();
+        String departureDate = testData.departureDate();
 
         LoggerUtil.info("Starting flight booking test with fromCity: " + fromCity + ", toCity: " + toCity);
 
-        // Navigate to home page and perform search
-        driver.get(ConfigurationManager.getProperty("baseUrl"));
-        HomePage homePage = new HomePage(driver);
-        homePage.enterFromCity(fromCity);
-        homePage.enterToCity(toCity);
-        homePage.selectDepartureDate(departureDate);
-        homePage.clickSearchButton();
+        // Reach the search results, restoring them when an earlier test already searched this route
+        FlightSearchPage flightSearchPage = openSearchResults(fromCity, toCity, departureDate);
+        flightSearchPage.selectFlight(0); // Select the first flight
+    }
+
+    @Test
+    public void testCheapestFlightBooking() {
+        FlightBookingData testData = TestDataReader.getTestData("flightBooking", FlightBookingData.class);
+        LoggerUtil.info("Starting cheapest flight test with fromCity: " + testData.fromCity() + ", toCity: "
+                + testData.toCity());
+
+        FlightSearchPage flightSearchPage = openSearchResults(testData.fromCity(), testData.toCity(),
+                testData.departureDate());
+        FlightResult cheapest = flightSearchPage.cheapestUnder(Integer.MAX_VALUE, 20)
+                .orElseThrow(() -> new AssertionError("No priced flight among the first 20 results"));
+        flightSearchPage.selectFlight(cheapest);
+    }
 
-        // Proceed to flight selection
+    /**
+     * Streams the route matrix lazily; shard and resume offset come from the data.* settings.
+     *
+     * @return A lazy iterator of {rowIndex, FlightBookingData} rows.
+     */
+    @DataProvider(name = "flightRoutes")
+    public Iterator<Object[]> flightRoutes() {
+        return StreamingDataProvider.rows("TestData/flight-routes.jsonl", FlightBookingData.class);
+    }
+
+    @Test(dataProvider = "flightRoutes")
+    public void testFlightSearchRoutes(long rowIndex, FlightBookingData route) {
+        LoggerUtil.info("Starting route search row " + rowIndex + ": " + route.fromCity() + " -> " + route.toCity());
+
+        WebDriver driver = getDriver();
+        Utils.navigateTo(driver, baseUrl());
+        new HomePage(driver).searchFlights(route.fromCity(), route.toCity(), route.departureDate());
+    }
+
+    /**
+     * Bring the browser to the search results for a route, through the home page the first time and
+     * from a checkpoint after that.
+     */
+    private FlightSearchPage openSearchResults(String fromCity, String toCity, String departureDate) {
+        WebDriver driver = getDriver();
+        startFrom("search results " + fromCity + "-" + toCity + " " + departureDate, () -> {
+            Utils.navigateTo(driver, baseUrl());
+            HomePage homePage = new HomePage(driver);
+            homePage.measure();
+            homePage.enterFromCity(fromCity);
+            homePage.enterToCity(toCity);
+            homePage.selectDepartureDate(departureDate);
+            homePage.clickSearchButton();
+        });
         FlightSearchPage flightSearchPage = new FlightSearchPage(driver);
-        flightSearchPage.selectFlight(0); // Select the first flight
+        flightSearchPage.waitForResults();
+        return flightSearchPage;
     }
 }